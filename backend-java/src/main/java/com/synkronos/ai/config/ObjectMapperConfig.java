@@ -1,18 +1,100 @@
 package com.synkronos.ai.config;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.synkronos.ai.dto.PreSerialized;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
 
 /**
- * Configuration for ObjectMapper bean
+ * Configuration for ObjectMapper bean. Built from Boot's builder so the
+ * java.time module is registered and dates are written as ISO strings.
  */
 @Configuration
 public class ObjectMapperConfig {
 
     @Bean
-    public ObjectMapper objectMapper() {
-        return new ObjectMapper();
+    public ObjectMapper objectMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.build();
     }
-}
 
+    /**
+     * Writes {@link PreSerialized} DTOs that carry rendered JSON as raw bytes; Boot registers Module beans
+     */
+    @Bean
+    public Module preSerializedModule() {
+        SimpleModule module = new SimpleModule("PreSerialized");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                return PreSerialized.class.isAssignableFrom(beanDesc.getBeanClass())
+                    ? new PreSerializedSerializer((JsonSerializer<Object>) serializer)
+                    : serializer;
+            }
+        });
+        return module;
+    }
+
+    /**
+     * Copies the rendered JSON when present and falls back to the regular bean serializer otherwise
+     */
+    static class PreSerializedSerializer extends StdSerializer<Object> implements ResolvableSerializer, ContextualSerializer {
+
+        private static final long serialVersionUID = 1L;
+
+        private final JsonSerializer<Object> delegate;
+
+        PreSerializedSerializer(JsonSerializer<Object> delegate) {
+            super(Object.class);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            SerializableString json = ((PreSerialized) value).preSerializedJson();
+            if (json != null) {
+                gen.writeRawValue(json);
+            } else {
+                delegate.serialize(value, gen, provider);
+            }
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+            if (delegate instanceof ContextualSerializer contextual) {
+                JsonSerializer<?> contextualized = contextual.createContextual(provider, property);
+                if (contextualized != delegate) {
+                    return new PreSerializedSerializer((JsonSerializer<Object>) contextualized);
+                }
+            }
+            return this;
+        }
+    }
+}
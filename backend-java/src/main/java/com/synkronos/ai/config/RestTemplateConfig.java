@@ -1,18 +1,31 @@
 package com.synkronos.ai.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
- * Configuration for RestTemplate bean
+ * Configuration for RestTemplate bean. Calls time out instead of holding a
+ * worker thread for as long as the remote side takes.
  */
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${ml.service.connect-timeout:PT2S}")
+    private Duration connectTimeout;
+
+    @Value("${ml.service.read-timeout:PT10S}")
+    private Duration readTimeout;
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+        return builder
+            .setConnectTimeout(connectTimeout)
+            .setReadTimeout(readTimeout)
+            .build();
     }
 }
-
@@ -37,9 +37,16 @@ public class AuthController {
     }
 
     @PostMapping("/refresh")
-    @Operation(summary = "Refresh access token", description = "Get new access token using refresh token")
+    @Operation(summary = "Refresh access token", description = "Exchange a refresh token for a new access and refresh token pair")
     public ResponseEntity<Map<String, String>> refreshToken(@RequestBody Map<String, String> request) {
         return ResponseEntity.ok(authService.refreshToken(request.get("refreshToken")));
     }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Logout", description = "Revoke a refresh token")
+    public ResponseEntity<Void> logout(@RequestBody Map<String, String> request) {
+        authService.logout(request.get("refreshToken"));
+        return ResponseEntity.noContent().build();
+    }
 }
 
@@ -1,5 +1,6 @@
 package com.synkronos.ai.controller;
 
+import com.synkronos.ai.security.UserPrincipal;
 import com.synkronos.ai.service.FileUploadService;
 import com.synkronos.ai.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -7,7 +8,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -31,11 +32,9 @@ public class FileUploadController {
     @PostMapping("/resume")
     @Operation(summary = "Upload resume", description = "Upload PDF resume file")
     public ResponseEntity<Map<String, String>> uploadResume(@RequestParam("file") MultipartFile file,
-                                                            Authentication authentication) {
-        String email = authentication.getName();
-        String userId = userService.getUserByEmail(email).getId();
+                                                            @AuthenticationPrincipal UserPrincipal principal) {
         String resumeUrl = fileUploadService.uploadResume(file);
-        userService.updateResumeUrl(userId, resumeUrl);
+        userService.updateResumeUrl(principal.getId(), resumeUrl);
 
         Map<String, String> response = new HashMap<>();
         response.put("resumeUrl", resumeUrl);
@@ -1,17 +1,35 @@
 package com.synkronos.ai.controller;
 
+import com.synkronos.ai.dto.CandidateDto;
+import com.synkronos.ai.dto.CursorPage;
+import com.synkronos.ai.dto.FieldSelection;
 import com.synkronos.ai.dto.JobDto;
+import com.synkronos.ai.dto.JobFilter;
+import com.synkronos.ai.dto.JobSearchResult;
+import com.synkronos.ai.dto.SuggestionDto;
+import com.synkronos.ai.search.JobFacet;
 import com.synkronos.ai.service.JobService;
-import com.synkronos.ai.service.UserService;
+import com.synkronos.ai.security.UserPrincipal;
+import com.synkronos.ai.utils.ConditionalGetUtil;
+import com.synkronos.ai.utils.NdjsonUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * REST controller for job management endpoints
@@ -25,59 +43,109 @@ import java.util.List;
 public class JobController {
 
     private final JobService jobService;
-    private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Create a new job posting", description = "Recruiters can create job postings")
-    public ResponseEntity<JobDto> createJob(@RequestBody JobDto jobDto, Authentication authentication) {
-        String recruiterId = getUserIdFromAuth(authentication);
-        return ResponseEntity.ok(jobService.createJob(jobDto, recruiterId));
+    public ResponseEntity<JobDto> createJob(@RequestBody JobDto jobDto, @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(jobService.createJob(jobDto, principal.getId()));
     }
 
     @GetMapping
-    @Operation(summary = "Get all active jobs", description = "Get list of all active job postings")
-    public ResponseEntity<List<JobDto>> getAllActiveJobs() {
-        return ResponseEntity.ok(jobService.getAllActiveJobs());
+    @Operation(summary = "Get all active jobs", description = "Get a page of active job postings, newest first, with optional filters")
+    public ResponseEntity<CursorPage<JobDto>> getAllActiveJobs(@ParameterObject JobFilter filter,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer limit,
+                                                               @RequestParam(required = false) String fields,
+                                                               WebRequest request) {
+        FieldSelection selection = FieldSelection.of(fields, null);
+        return ConditionalGetUtil.respond(request, jobService.getListingEtag(filter, selection, cursor, limit),
+            () -> jobService.getAllActiveJobs(filter, selection, cursor, limit));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all active jobs", description = "Stream every active job as newline-delimited JSON")
+    public ResponseEntity<StreamingResponseBody> streamAllActiveJobs(@RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.of(fields, null);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(NdjsonUtil.body(objectMapper, () -> jobService.streamAllActiveJobs(selection)));
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search jobs", description = "Search jobs by keyword")
-    public ResponseEntity<List<JobDto>> searchJobs(@RequestParam String q) {
-        return ResponseEntity.ok(jobService.searchJobs(q));
+    @Operation(summary = "Search jobs", description = "Search jobs by keyword, filtered by facets, with facet counts")
+    public ResponseEntity<JobSearchResult> searchJobs(@RequestParam String q,
+                                                      @RequestParam(required = false) Set<String> location,
+                                                      @RequestParam(required = false) Set<String> employmentType,
+                                                      @RequestParam(required = false) Set<String> educationLevel,
+                                                      @RequestParam(required = false) Set<String> skill,
+                                                      @RequestParam(required = false) Set<String> salaryBand) {
+        Map<JobFacet, Set<String>> filters = new EnumMap<>(JobFacet.class);
+        if (location != null) filters.put(JobFacet.LOCATION, location);
+        if (employmentType != null) filters.put(JobFacet.EMPLOYMENT_TYPE, employmentType);
+        if (educationLevel != null) filters.put(JobFacet.EDUCATION_LEVEL, educationLevel);
+        if (skill != null) filters.put(JobFacet.SKILL, skill);
+        if (salaryBand != null) filters.put(JobFacet.SALARY_BAND, salaryBand);
+        return ResponseEntity.ok(jobService.searchJobs(q, filters));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest search terms", description = "Typeahead over job titles, companies and skills, most frequent first")
+    public ResponseEntity<List<SuggestionDto>> suggest(@RequestParam String prefix,
+                                                       @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(jobService.suggest(prefix, limit));
+    }
+
+    @GetMapping("/recommended")
+    @Operation(summary = "Get recommended jobs", description = "Active jobs ranked by skill overlap and experience fit for the current job seeker")
+    public ResponseEntity<List<JobDto>> getRecommendedJobs(@AuthenticationPrincipal UserPrincipal principal,
+                                                           @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(jobService.getRecommendedJobs(principal.getId(), limit));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get job by ID")
-    public ResponseEntity<JobDto> getJobById(@PathVariable String id) {
-        return ResponseEntity.ok(jobService.getJobById(id));
+    public ResponseEntity<JobDto> getJobById(@PathVariable String id, @RequestParam(required = false) String fields,
+                                             WebRequest request) {
+        FieldSelection selection = FieldSelection.of(fields, null);
+        LocalDateTime version = jobService.getJobVersion(id);
+        return ConditionalGetUtil.respond(request, ConditionalGetUtil.entityTag(id, version, selection),
+            () -> jobService.getJobById(id, selection, version));
     }
 
     @GetMapping("/recruiter/my-jobs")
     @Operation(summary = "Get jobs by current recruiter")
-    public ResponseEntity<List<JobDto>> getMyJobs(Authentication authentication) {
-        String recruiterId = getUserIdFromAuth(authentication);
-        return ResponseEntity.ok(jobService.getJobsByRecruiter(recruiterId));
+    public ResponseEntity<CursorPage<JobDto>> getMyJobs(@AuthenticationPrincipal UserPrincipal principal,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer limit,
+                                                        @RequestParam(required = false) String fields,
+                                                        WebRequest request) {
+        FieldSelection selection = FieldSelection.of(fields, null);
+        return ConditionalGetUtil.respond(request,
+            jobService.getRecruiterJobsEtag(principal.getId(), selection, cursor, limit),
+            () -> jobService.getJobsByRecruiter(principal.getId(), selection, cursor, limit));
+    }
+
+    @GetMapping("/{id}/candidates")
+    @Operation(summary = "Get top candidates for a job", description = "Recruiters can rank job seekers against their job's requirements")
+    public ResponseEntity<List<CandidateDto>> getCandidates(@PathVariable String id,
+                                                            @AuthenticationPrincipal UserPrincipal principal,
+                                                            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(jobService.getCandidates(id, principal.getId(), limit));
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Update job posting")
     public ResponseEntity<JobDto> updateJob(@PathVariable String id, @RequestBody JobDto jobDto, 
-                                           Authentication authentication) {
-        String recruiterId = getUserIdFromAuth(authentication);
-        return ResponseEntity.ok(jobService.updateJob(id, jobDto, recruiterId));
+                                           @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(jobService.updateJob(id, jobDto, principal.getId()));
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete job posting")
-    public ResponseEntity<Void> deleteJob(@PathVariable String id, Authentication authentication) {
-        String recruiterId = getUserIdFromAuth(authentication);
-        jobService.deleteJob(id, recruiterId);
+    public ResponseEntity<Void> deleteJob(@PathVariable String id, @AuthenticationPrincipal UserPrincipal principal) {
+        jobService.deleteJob(id, principal.getId());
         return ResponseEntity.noContent().build();
     }
-
-    private String getUserIdFromAuth(Authentication authentication) {
-        String email = authentication.getName();
-        return userService.getUserByEmail(email).getId();
-    }
 }
 
@@ -1,16 +1,24 @@
 package com.synkronos.ai.controller;
 
+import com.synkronos.ai.dto.CursorPage;
+import com.synkronos.ai.dto.FieldSelection;
 import com.synkronos.ai.dto.UserDto;
+import com.synkronos.ai.security.UserPrincipal;
 import com.synkronos.ai.service.UserService;
+import com.synkronos.ai.utils.ConditionalGetUtil;
+import com.synkronos.ai.utils.NdjsonUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for user management endpoints
@@ -24,18 +32,22 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/me")
     @Operation(summary = "Get current user profile")
-    public ResponseEntity<UserDto> getCurrentUser(Authentication authentication) {
-        String email = authentication.getName();
-        return ResponseEntity.ok(userService.getUserByEmail(email));
+    public ResponseEntity<UserDto> getCurrentUser(@AuthenticationPrincipal UserPrincipal principal, WebRequest request) {
+        return ConditionalGetUtil.respond(request, userService.getUserEtag(principal.getId(), FieldSelection.ALL),
+            () -> userService.getUserById(principal.getId()));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID")
-    public ResponseEntity<UserDto> getUserById(@PathVariable String id) {
-        return ResponseEntity.ok(userService.getUserById(id));
+    public ResponseEntity<UserDto> getUserById(@PathVariable String id, @RequestParam(required = false) String fields,
+                                               WebRequest request) {
+        FieldSelection selection = FieldSelection.of(fields, null);
+        return ConditionalGetUtil.respond(request, userService.getUserEtag(id, selection),
+            () -> userService.getUserById(id, selection));
     }
 
     @PutMapping("/{id}")
@@ -44,10 +56,27 @@ public class UserController {
         return ResponseEntity.ok(userService.updateUser(id, userDto));
     }
 
+    @PutMapping("/{id}/deactivate")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Deactivate user account", description = "Admins can deactivate user accounts")
+    public ResponseEntity<UserDto> deactivateUser(@PathVariable String id) {
+        return ResponseEntity.ok(userService.deactivateUser(id));
+    }
+
     @GetMapping("/job-seekers")
     @Operation(summary = "Get all job seekers")
-    public ResponseEntity<List<UserDto>> getAllJobSeekers() {
-        return ResponseEntity.ok(userService.getAllJobSeekers());
+    public ResponseEntity<CursorPage<UserDto>> getAllJobSeekers(@RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer limit,
+                                                                @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(userService.getAllJobSeekers(FieldSelection.of(fields, null), cursor, limit));
     }
-}
 
+    @GetMapping(value = "/job-seekers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all job seekers", description = "Stream every job seeker as newline-delimited JSON")
+    public ResponseEntity<StreamingResponseBody> streamAllJobSeekers(@RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.of(fields, null);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(NdjsonUtil.body(objectMapper, () -> userService.streamAllJobSeekers(selection)));
+    }
+}
@@ -0,0 +1,24 @@
+package com.synkronos.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a job's applicants, best match first. The job is sent once for
+ * the whole page instead of inside every application.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantPage {
+
+    private JobDto job;
+    private List<ApplicationDto> items;
+    private String nextCursor; // null on the last page
+    private boolean hasMore;
+}
@@ -1,5 +1,6 @@
 package com.synkronos.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.synkronos.ai.entity.Application;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
  */
 @Data
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ApplicationDto {
@@ -23,6 +25,7 @@ public class ApplicationDto {
     private Application.ApplicationStatus status;
     private Double matchScore;
     private String matchBreakdown;
+    private Application.ScoringState scoringState;
     private String coverLetter;
     private LocalDateTime appliedAt;
     private JobDto job; // Populated when fetching applications
@@ -0,0 +1,22 @@
+package com.synkronos.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * DTO for a job seeker ranked against a job's requirements
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateDto {
+
+    private UserDto jobSeeker;
+    private double score; // relative ranking score, higher is better
+    private Set<String> matchedSkills;
+}
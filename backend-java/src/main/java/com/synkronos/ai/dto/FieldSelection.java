@@ -0,0 +1,134 @@
+package com.synkronos.ai.dto;
+
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Sparse fieldset and expansion requested through the {@code fields} and
+ * {@code expand} query parameters, e.g. {@code fields=title,job.companyName&expand=job}.
+ * Dotted names select fields of an expanded relation. The selection is pushed
+ * down to MongoDB as a projection so unrequested fields are never read or decoded.
+ * The id is always returned.
+ */
+public class FieldSelection {
+
+    public static final FieldSelection ALL = new FieldSelection(null, Collections.emptyMap(), null);
+
+    private static final Pattern FIELD_NAME = Pattern.compile("[A-Za-z][A-Za-z0-9]*");
+
+    private final Set<String> fields; // null = every field
+    private final Map<String, Set<String>> nestedFields;
+    private final Set<String> expand; // null = the endpoint's default expansions
+
+    private FieldSelection(Set<String> fields, Map<String, Set<String>> nestedFields, Set<String> expand) {
+        this.fields = fields;
+        this.nestedFields = nestedFields;
+        this.expand = expand;
+    }
+
+    /**
+     * Parse the raw query parameters; either may be null
+     */
+    public static FieldSelection of(String fields, String expand) {
+        if (fields == null && expand == null) {
+            return ALL;
+        }
+
+        Set<String> topLevel = null;
+        Map<String, Set<String>> nested = new HashMap<>();
+        if (fields != null) {
+            topLevel = new HashSet<>();
+            for (String name : split(fields)) {
+                int dot = name.indexOf('.');
+                if (dot < 0) {
+                    topLevel.add(validate(name));
+                } else {
+                    nested.computeIfAbsent(validate(name.substring(0, dot)), k -> new HashSet<>())
+                        .add(validate(name.substring(dot + 1)));
+                }
+            }
+        }
+
+        Set<String> expansions = null;
+        if (expand != null) {
+            expansions = new HashSet<>();
+            for (String name : split(expand)) {
+                expansions.add(validate(name));
+            }
+        }
+        return new FieldSelection(topLevel, nested, expansions);
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * Whether a relation should be embedded, falling back to the endpoint default when {@code expand} is absent
+     */
+    public boolean expands(String relation, boolean byDefault) {
+        return expand == null ? byDefault : expand.contains(relation);
+    }
+
+    /**
+     * Field selection for an embedded relation; every field when none were named
+     */
+    public FieldSelection nested(String relation) {
+        Set<String> selected = nestedFields.get(relation);
+        return selected == null ? ALL : new FieldSelection(selected, Collections.emptyMap(), null);
+    }
+
+    /**
+     * Restrict the query to the selected fields plus any the caller needs internally
+     * (sort keys, join keys). Leaves the query untouched when every field is selected.
+     */
+    public Query applyTo(Query query, String... requiredFields) {
+        if (fields == null) {
+            return query;
+        }
+        fields.forEach(query.fields()::include);
+        for (String required : requiredFields) {
+            query.fields().include(required);
+        }
+        return query;
+    }
+
+    /**
+     * Canonical form of the selection, equal for equivalent parameters (order, duplicates, spacing)
+     */
+    public String cacheKey() {
+        StringBuilder key = new StringBuilder();
+        key.append(fields == null ? "*" : new TreeSet<>(fields));
+        new TreeMap<>(nestedFields).forEach((relation, selected) ->
+            key.append(relation).append(new TreeSet<>(selected)));
+        key.append('/').append(expand == null ? "default" : new TreeSet<>(expand));
+        return key.toString();
+    }
+
+    private static Iterable<String> split(String csv) {
+        return Arrays.stream(csv.split(","))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            ::iterator;
+    }
+
+    private static String validate(String name) {
+        if (!FIELD_NAME.matcher(name).matches()) {
+            throw new RuntimeException("Invalid field name: " + name);
+        }
+        return name;
+    }
+}
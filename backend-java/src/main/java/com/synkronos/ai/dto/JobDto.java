@@ -1,10 +1,15 @@
 package com.synkronos.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.SerializableString;
 import com.synkronos.ai.entity.Job;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -15,9 +20,10 @@ import java.util.Set;
  */
 @Data
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @NoArgsConstructor
 @AllArgsConstructor
-public class JobDto {
+public class JobDto implements PreSerialized {
 
     private String id;
     private String recruiterId;
@@ -35,5 +41,15 @@ public class JobDto {
     private Job.JobStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime expiresAt;
+
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient SerializableString serializedJson; // set on cached DTOs only, which are shared and read-only
+
+    @Override
+    public SerializableString preSerializedJson() {
+        return serializedJson;
+    }
 }
 
@@ -0,0 +1,21 @@
+package com.synkronos.ai.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Structured filters for listing active jobs, bound from query parameters.
+ * Every filter is optional; the ones given are combined with AND.
+ */
+@Data
+public class JobFilter {
+
+    private String location; // matched on the normalized location key
+    private String employmentType;
+    private String educationLevel;
+    private BigDecimal salaryMin; // salary range to overlap, in major units of currency
+    private BigDecimal salaryMax;
+    private String currency = "USD";
+    private Integer maxExperience; // jobs requiring at most this many years
+}
@@ -0,0 +1,32 @@
+package com.synkronos.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranked job search results with facet counts over the best-ranked matching jobs
+ * (at most {@code search.facets.max-hits} of them)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchResult {
+
+    private List<JobDto> items;
+    private int total; // matching jobs after filters among the best max-hits, before the result limit
+    private Map<String, List<FacetCount>> facets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetCount {
+        private String value;
+        private int count;
+    }
+}
@@ -0,0 +1,18 @@
+package com.synkronos.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for ML service batch match score request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchScoreBatchRequest {
+
+    private List<MatchScoreRequest> requests;
+}
@@ -0,0 +1,18 @@
+package com.synkronos.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for ML service batch match score response, one result per request in request order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchScoreBatchResponse {
+
+    private List<MatchScoreResponse> results;
+}
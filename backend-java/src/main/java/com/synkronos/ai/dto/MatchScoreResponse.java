@@ -18,4 +18,5 @@ public class MatchScoreResponse {
     private Map<String, Double> skillMatchScores;        // Individual skill match percentages
     private Map<String, Double> breakdown;               // Detailed breakdown (experience, skills, etc.)
     private Set<String> extractedSkills;                 // Skills extracted from resume
+    private String error;                                // Set instead of the scores when a batch item failed
 }
@@ -0,0 +1,15 @@
+package com.synkronos.ai.dto;
+
+import com.fasterxml.jackson.core.SerializableString;
+
+/**
+ * A DTO that can carry its own rendered JSON. When present, the JSON is
+ * copied to the response as-is instead of serializing the DTO's fields.
+ */
+public interface PreSerialized {
+
+    /**
+     * The DTO's rendered JSON, or null to serialize it normally
+     */
+    SerializableString preSerializedJson();
+}
@@ -0,0 +1,25 @@
+package com.synkronos.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a typeahead suggestion
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDto {
+
+    /**
+     * Where the suggested term comes from
+     */
+    public enum Type {
+        TITLE, COMPANY, SKILL
+    }
+
+    private String text;
+    private Type type;
+    private int count; // active jobs and job seekers using the term
+}
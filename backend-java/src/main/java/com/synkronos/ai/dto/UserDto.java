@@ -1,5 +1,6 @@
 package com.synkronos.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.synkronos.ai.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,6 +15,7 @@ import java.util.Set;
  */
 @Data
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserDto {
@@ -7,6 +7,8 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -16,6 +18,11 @@ import java.time.LocalDateTime;
  * Job application entity linking job seekers to jobs
  */
 @Document(collection = "applications")
+@CompoundIndexes({
+    @CompoundIndex(name = "jobSeeker_appliedAt", def = "{'jobSeekerId': 1, 'appliedAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "job_matchScore", def = "{'jobId': 1, 'matchScore': -1, '_id': -1}"),
+    @CompoundIndex(name = "scoringState_nextScoringAt", def = "{'scoringState': 1, 'nextScoringAt': 1}")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -25,10 +32,8 @@ public class Application {
     @Id
     private String id;
 
-    @Indexed
     private String jobId;
 
-    @Indexed
     private String jobSeekerId;
 
     private ApplicationStatus status = ApplicationStatus.PENDING;
@@ -36,6 +41,10 @@ public class Application {
     private Double matchScore; // AI-generated match score (0-100)
     private String matchBreakdown; // JSON string with score breakdown
 
+    private ScoringState scoringState; // null for applications scored before scoring became asynchronous
+    private Integer scoringAttempts;
+    private LocalDateTime nextScoringAt; // when a PENDING application may next be picked up by the scoring sweep
+
     private String coverLetter;
 
     @CreatedDate
@@ -52,5 +61,11 @@ public class Application {
         REJECTED,
         ACCEPTED
     }
+
+    public enum ScoringState {
+        PENDING,
+        SCORED,
+        FAILED
+    }
 }
 
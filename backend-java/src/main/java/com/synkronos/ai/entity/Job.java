@@ -7,7 +7,9 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
@@ -19,6 +21,17 @@ import java.util.Set;
  * Job posting entity
  */
 @Document(collection = "jobs")
+@CompoundIndexes({
+    @CompoundIndex(name = "status_createdAt", def = "{'status': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "status_expiresAt", def = "{'status': 1, 'expiresAt': 1}"),
+    @CompoundIndex(name = "recruiter_createdAt", def = "{'recruiterId': 1, 'createdAt': -1, '_id': -1}"),
+    // Structured filters: equality keys, then the keyset sort, then range keys (ESR)
+    @CompoundIndex(name = "status_type_createdAt", def = "{'status': 1, 'employmentType': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "status_location_createdAt", def = "{'status': 1, 'locationKey': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "status_education_createdAt", def = "{'status': 1, 'educationLevel': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "status_currency_createdAt_salary",
+        def = "{'status': 1, 'currency': 1, 'createdAt': -1, '_id': -1, 'maxSalaryMinor': 1, 'minSalaryMinor': 1}")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -28,18 +41,26 @@ public class Job {
     @Id
     private String id;
 
-    @Indexed
     private String recruiterId; // User ID of the recruiter
 
+    @TextIndexed(weight = 10)
     private String title;
+
+    @TextIndexed(weight = 1)
     private String description;
+
+    @TextIndexed(weight = 3)
     private String companyName;
+
     private String location;
+    private String locationKey; // normalized location for filtering, derived on save
     private String employmentType; // FULL_TIME, PART_TIME, CONTRACT, INTERNSHIP
 
     private BigDecimal minSalary;
     private BigDecimal maxSalary;
     private String currency = "USD";
+    private Long minSalaryMinor; // salary in currency minor units for range filters, derived on save
+    private Long maxSalaryMinor;
 
     private Set<String> requiredSkills = new HashSet<>();
     private Integer minYearsOfExperience;
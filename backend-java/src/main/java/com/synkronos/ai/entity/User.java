@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -18,6 +19,7 @@ import java.util.Set;
  * User entity representing both job seekers and recruiters
  */
 @Document(collection = "users")
+@CompoundIndex(name = "role_createdAt", def = "{'role': 1, 'createdAt': -1, '_id': -1}")
 @Data
 @Builder
 @NoArgsConstructor
@@ -35,7 +37,6 @@ public class User {
     private String firstName;
     private String lastName;
 
-    @Indexed
     private UserRole role; // JOB_SEEKER or RECRUITER
 
     private String phone;
@@ -0,0 +1,13 @@
+package com.synkronos.ai.exception;
+
+/**
+ * Thrown when a bounded worker pool is saturated and the request is shed
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,148 @@
+package com.synkronos.ai.repository;
+
+import com.synkronos.ai.entity.Job;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Derives the filter keys stored on {@link Job}: salaries as longs in the
+ * currency's minor units (so range predicates compare numbers, not decimal
+ * strings) and a normalized location key. Employment type and education
+ * level are stored trimmed and upper-cased, as the listing filters compare
+ * them. Runs before every save, and once at startup backfills documents
+ * written before these fields existed or were normalized.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobNormalizationCallback implements BeforeConvertCallback<Job> {
+
+    private static final String DEFAULT_CURRENCY = "USD";
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+    // Lower-case letters or surrounding whitespace: values written before the codes were normalized
+    private static final String UNNORMALIZED_CODE = "\\p{Ll}|^\\s|\\s$";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Job onBeforeConvert(Job job, String collection) {
+        normalize(job);
+        return job;
+    }
+
+    /**
+     * Fill the derived fields of jobs saved before they were introduced, and normalize
+     * their employment type and education level. Runs before the catalog is loaded so
+     * the in-memory views see the normalized values.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfill() {
+        Query query = new Query(new Criteria().orOperator(
+            Criteria.where("location").ne(null).and("locationKey").exists(false),
+            Criteria.where("minSalary").ne(null).and("minSalaryMinor").exists(false),
+            Criteria.where("maxSalary").ne(null).and("maxSalaryMinor").exists(false),
+            Criteria.where("employmentType").regex(UNNORMALIZED_CODE),
+            Criteria.where("educationLevel").regex(UNNORMALIZED_CODE)
+        )).cursorBatchSize(BACKFILL_BATCH_SIZE);
+        query.fields().include("location", "minSalary", "maxSalary", "currency", "employmentType", "educationLevel");
+
+        long count = 0;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Job.class);
+        int pending = 0;
+        try (Stream<Job> jobs = mongoTemplate.stream(query, Job.class)) {
+            for (Job job : (Iterable<Job>) jobs::iterator) {
+                normalize(job);
+                bulk.updateOne(new Query(Criteria.where("_id").is(job.getId())), new Update()
+                    .set("locationKey", job.getLocationKey())
+                    .set("currency", job.getCurrency())
+                    .set("minSalaryMinor", job.getMinSalaryMinor())
+                    .set("maxSalaryMinor", job.getMaxSalaryMinor())
+                    .set("employmentType", job.getEmploymentType())
+                    .set("educationLevel", job.getEducationLevel()));
+                count++;
+                if (++pending == BACKFILL_BATCH_SIZE) {
+                    bulk.execute();
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Job.class);
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            bulk.execute();
+        }
+        if (count > 0) {
+            log.info("Backfilled filter keys on {} jobs", count);
+        }
+    }
+
+    static void normalize(Job job) {
+        if (job.getCurrency() == null) {
+            job.setCurrency(DEFAULT_CURRENCY);
+        }
+        job.setLocationKey(locationKey(job.getLocation()));
+        job.setEmploymentType(code(job.getEmploymentType()));
+        job.setEducationLevel(code(job.getEducationLevel()));
+        Long min = toMinorUnits(job.getMinSalary(), job.getCurrency());
+        Long max = toMinorUnits(job.getMaxSalary(), job.getCurrency());
+        // A one-sided salary is treated as a point so overlap checks need no null handling
+        job.setMinSalaryMinor(min != null ? min : max);
+        job.setMaxSalaryMinor(max != null ? max : min);
+    }
+
+    /**
+     * Trim and upper-case a code such as an employment type; blank means unset
+     */
+    private static String code(String value) {
+        if (value == null) {
+            return null;
+        }
+        String code = value.trim().toUpperCase(Locale.ROOT);
+        return code.isEmpty() ? null : code;
+    }
+
+    /**
+     * Lower-case the location and reduce it to letters and digits separated by single spaces,
+     * so "San Francisco, CA" and "san francisco ca" compare equal
+     */
+    public static String locationKey(String location) {
+        if (location == null) {
+            return null;
+        }
+        String key = location.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+        return key.isEmpty() ? null : key;
+    }
+
+    /**
+     * Convert a major-unit amount to the currency's minor units, e.g. 1234.5 USD to 123450
+     */
+    public static Long toMinorUnits(BigDecimal amount, String currency) {
+        if (amount == null) {
+            return null;
+        }
+        int digits = 2;
+        try {
+            digits = Math.max(Currency.getInstance(currency.toUpperCase(Locale.ROOT)).getDefaultFractionDigits(), 0);
+        } catch (IllegalArgumentException e) {
+            // Unknown currency codes keep the two-digit default
+        }
+        return amount.movePointRight(digits).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+}
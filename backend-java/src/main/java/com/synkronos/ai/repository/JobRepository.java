@@ -1,10 +1,12 @@
 package com.synkronos.ai.repository;
 
 import com.synkronos.ai.entity.Job;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -17,10 +19,17 @@ public interface JobRepository extends MongoRepository<Job, String> {
 
     List<Job> findByStatus(Job.JobStatus status);
 
-    @Query("{ 'status': 'ACTIVE', $or: [ { 'title': { $regex: ?0, $options: 'i' } }, { 'description': { $regex: ?0, $options: 'i' } }, { 'companyName': { $regex: ?0, $options: 'i' } } ] }")
-    List<Job> searchActiveJobs(String searchTerm);
+    /**
+     * Active jobs that have not expired at {@code now}; jobs without an expiry never expire
+     */
+    static Criteria activeAt(LocalDateTime now) {
+        return Criteria.where("status").is(Job.JobStatus.ACTIVE).and("expiresAt").not().lte(now);
+    }
 
-    @Query("{ 'status': 'ACTIVE', 'requiredSkills': { $in: ?0 } }")
-    List<Job> findActiveJobsBySkills(List<String> skills);
+    @Query("{ 'status': 'ACTIVE', 'expiresAt': { $not: { $lte: ?1 } }, $or: [ { 'title': { $regex: ?0, $options: 'i' } }, { 'description': { $regex: ?0, $options: 'i' } }, { 'companyName': { $regex: ?0, $options: 'i' } } ] }")
+    List<Job> searchActiveJobs(String searchTerm, LocalDateTime now);
+
+    @Query("{ 'status': 'ACTIVE', 'expiresAt': { $not: { $lte: ?1 } }, 'requiredSkills': { $in: ?0 } }")
+    List<Job> findActiveJobsBySkills(List<String> skills, LocalDateTime now);
 }
 
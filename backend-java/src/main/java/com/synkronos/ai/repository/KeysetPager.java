@@ -0,0 +1,187 @@
+package com.synkronos.ai.repository;
+
+import com.synkronos.ai.dto.CursorPage;
+import com.synkronos.ai.dto.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset (cursor) pagination on a sort field and {@code _id}, both
+ * descending: a timestamp (newest first) or a nullable score (best first).
+ * Each page is an index range scan that starts right after the last row of
+ * the previous page, so cost depends on the page size only. Cursors are
+ * opaque base64 encodings of that last (sort value, id) pair.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetPager {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${pagination.default-size:20}")
+    private int defaultSize;
+
+    @Value("${pagination.max-size:100}")
+    private int maxSize;
+
+    /**
+     * Fetch one page of documents matching {@code filter}, ordered by
+     * {@code timeField} then {@code _id}, both descending, reading only the
+     * selected fields plus any {@code requiredFields}
+     */
+    public <T> CursorPage<T> page(Criteria filter, Class<T> type, String timeField,
+                                  Function<T, LocalDateTime> timeOf, Function<T, String> idOf,
+                                  FieldSelection fields, String cursor, Integer size, String... requiredFields) {
+        int pageSize = resolveSize(size);
+
+        Query query = new Query(withCursor(filter, cursor, position -> afterTime(timeField, position)))
+            .with(descending(timeField))
+            .limit(pageSize + 1);
+        if (!fields.isAll()) {
+            fields.applyTo(query, requiredFields).fields().include(timeField);
+        }
+        return toPage(mongoTemplate.find(query, type), pageSize, row -> encode(timeOf.apply(row), idOf.apply(row)));
+    }
+
+    /**
+     * Same paging as {@link #page}, run as an aggregation over {@code collectionType} so that
+     * {@code stages} (e.g. a {@code $lookup}) apply to the page's rows in the same round-trip.
+     * Rows come back as raw documents and are converted by {@code reader}.
+     */
+    public <T> CursorPage<T> pageAggregate(Criteria filter, Class<?> collectionType, String timeField,
+                                           Function<T, LocalDateTime> timeOf, Function<T, String> idOf,
+                                           Function<Document, T> reader, String cursor, Integer size,
+                                           List<AggregationOperation> stages) {
+        return aggregate(withCursor(filter, cursor, position -> afterTime(timeField, position)), descending(timeField),
+            collectionType, reader, size, stages, row -> encode(timeOf.apply(row), idOf.apply(row)));
+    }
+
+    /**
+     * Aggregation paging ordered by a nullable numeric {@code scoreField} then {@code _id}, both
+     * descending; documents without a score come last
+     */
+    public <T> CursorPage<T> pageAggregateByScore(Criteria filter, Class<?> collectionType, String scoreField,
+                                                  Function<T, Double> scoreOf, Function<T, String> idOf,
+                                                  Function<Document, T> reader, String cursor, Integer size,
+                                                  List<AggregationOperation> stages) {
+        return aggregate(withCursor(filter, cursor, position -> afterScore(scoreField, position)), descending(scoreField),
+            collectionType, reader, size, stages, row -> encode(scoreOf.apply(row), idOf.apply(row)));
+    }
+
+    private <T> CursorPage<T> aggregate(Criteria criteria, Sort sort, Class<?> collectionType,
+                                        Function<Document, T> reader, Integer size,
+                                        List<AggregationOperation> stages, Function<T, String> cursorOf) {
+        int pageSize = resolveSize(size);
+
+        List<AggregationOperation> pipeline = new ArrayList<>();
+        pipeline.add(Aggregation.match(criteria));
+        pipeline.add(Aggregation.sort(sort));
+        pipeline.add(Aggregation.limit(pageSize + 1));
+        pipeline.addAll(stages);
+        List<T> rows = mongoTemplate.aggregate(Aggregation.newAggregation(pipeline), collectionType, Document.class)
+            .getMappedResults()
+            .stream()
+            .map(reader)
+            .collect(Collectors.toList());
+        return toPage(rows, pageSize, cursorOf);
+    }
+
+    private static Criteria withCursor(Criteria filter, String cursor, Function<Position, Criteria> after) {
+        if (cursor == null || cursor.isBlank()) {
+            return filter;
+        }
+        return new Criteria().andOperator(filter, after.apply(decode(cursor)));
+    }
+
+    private static Sort descending(String field) {
+        return Sort.by(Sort.Direction.DESC, field).and(Sort.by(Sort.Direction.DESC, "_id"));
+    }
+
+    private static <T> CursorPage<T> toPage(List<T> rows, int pageSize, Function<T, String> cursorOf) {
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+        String nextCursor = hasMore ? cursorOf.apply(rows.get(rows.size() - 1)) : null;
+        return new CursorPage<>(rows, nextCursor, hasMore);
+    }
+
+    private int resolveSize(Integer size) {
+        if (size == null) {
+            return defaultSize;
+        }
+        return Math.max(1, Math.min(size, maxSize));
+    }
+
+    private static Criteria afterTime(String timeField, Position position) {
+        try {
+            LocalDateTime time = LocalDateTime.parse(position.value());
+            return new Criteria().orOperator(
+                Criteria.where(timeField).lt(time),
+                new Criteria().andOperator(Criteria.where(timeField).is(time), Criteria.where("_id").lt(position.id()))
+            );
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    private static Criteria afterScore(String scoreField, Position position) {
+        if (position.value().isEmpty()) {
+            // Past the scored documents: only unscored ones with a lower id remain
+            return new Criteria().andOperator(Criteria.where(scoreField).is(null), Criteria.where("_id").lt(position.id()));
+        }
+        try {
+            double score = Double.parseDouble(position.value());
+            return new Criteria().orOperator(
+                Criteria.where(scoreField).lt(score),
+                new Criteria().andOperator(Criteria.where(scoreField).is(score), Criteria.where("_id").lt(position.id())),
+                Criteria.where(scoreField).is(null)
+            );
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    private static Position decode(String cursor) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+
+        int separator = decoded.lastIndexOf('|');
+        if (separator < 0 || !ObjectId.isValid(decoded.substring(separator + 1))) {
+            throw new RuntimeException("Invalid cursor");
+        }
+        return new Position(decoded.substring(0, separator), new ObjectId(decoded.substring(separator + 1)));
+    }
+
+    private static String encode(Object value, String id) {
+        String raw = (value != null ? value : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The sort value and id of the last row of the previous page
+     */
+    private record Position(String value, ObjectId id) {
+    }
+}
@@ -2,6 +2,8 @@ package com.synkronos.ai.repository;
 
 import com.synkronos.ai.entity.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,8 +16,15 @@ public interface UserRepository extends MongoRepository<User, String> {
 
     Optional<User> findByEmail(String email);
 
+    @Query(value = "{ 'email': ?0 }", fields = "{ 'email': 1, 'password': 1, 'role': 1, 'isActive': 1 }")
+    Optional<User> findAuthProjectionByEmail(String email);
+
     boolean existsByEmail(String email);
 
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$set': { 'password': ?1 } }")
+    void updatePassword(String id, String encodedPassword);
+
     java.util.List<User> findByRole(User.UserRole role);
 }
 
@@ -0,0 +1,288 @@
+package com.synkronos.ai.search;
+
+import com.synkronos.ai.entity.User;
+import com.synkronos.ai.service.SeekerProfileListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of active job seekers for candidate sourcing. Each seeker
+ * gets a dense int ordinal (reused after removal); skills and locations are
+ * compressed bitmaps of ordinals and experience is a primitive array. Ranking
+ * splits the ordinal space into fixed-size shards scored in parallel on a
+ * fork/join pool, each into its own bounded top-K heap, and merges the heaps.
+ * <p>
+ * Score = share of the job's required skills the seeker has, times the
+ * experience fit ({@code 1 / (1 + missing years)}), with a bonus when the
+ * seeker's location matches the job's.
+ */
+@Component
+@Slf4j
+public class CandidateIndex implements SeekerProfileListener {
+
+    private static final float LOCATION_BONUS = 1.2f;
+    private static final String[] NO_SKILLS = new String[0];
+
+    @Value("${candidates.shard-size:65536}")
+    private int shardSize;
+
+    @Value("${candidates.parallelism:0}")
+    private int parallelism;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, RoaringBitmap> skills = new HashMap<>();
+    private final Map<String, RoaringBitmap> locations = new HashMap<>();
+    private final Map<String, Integer> ordinalById = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private String[] idByOrdinal = new String[1024];
+    private String[][] skillsByOrdinal = new String[1024][];
+    private String[] locationByOrdinal = new String[1024];
+    private int[] years = new int[1024];
+    private int nextOrdinal;
+    private ForkJoinPool pool;
+    private volatile boolean ready;
+
+    @PostConstruct
+    void init() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    @Override
+    public void onSeekerSaved(User user) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(user.getId());
+            if (user.getRole() == User.UserRole.JOB_SEEKER && !Boolean.FALSE.equals(user.getIsActive())) {
+                addInternal(user);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onSeekersLoaded() {
+        ready = true;
+        log.info("Candidate index ready: {} seekers, {} skills", ordinalById.size(), skills.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Return the ids and scores of the {@code limit} best seekers for a job, best first
+     */
+    public Map<String, Float> topCandidates(Collection<String> requiredSkills, Integer minYearsOfExperience,
+                                            String location, int limit) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (requiredSkills != null) {
+            for (String skill : requiredSkills) {
+                if (skill != null && !skill.isBlank()) {
+                    keys.add(normalize(skill));
+                }
+            }
+        }
+        if (keys.isEmpty() || limit <= 0) {
+            return Map.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> lists = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                RoaringBitmap posting = skills.get(key);
+                if (posting != null && lists.size() < Byte.MAX_VALUE) {
+                    lists.add(posting);
+                }
+            }
+            if (lists.isEmpty()) {
+                return Map.of();
+            }
+
+            RoaringBitmap sameLocation = location == null ? null : locations.get(normalize(location));
+            ShardQuery query = new ShardQuery(lists.toArray(new RoaringBitmap[0]), keys.size(),
+                minYearsOfExperience != null ? minYearsOfExperience : 0, sameLocation, limit);
+            TopKHeap heap = pool.invoke(new ShardTask(query, 0, nextOrdinal));
+
+            float[] scores = new float[heap.size()];
+            int[] ordinals = heap.drainDescending(scores);
+            Map<String, Float> result = new LinkedHashMap<>();
+            for (int i = 0; i < ordinals.length; i++) {
+                result.put(idByOrdinal[ordinals[i]], scores[i]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(User user) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (user.getSkills() != null) {
+            for (String skill : user.getSkills()) {
+                if (skill != null && !skill.isBlank()) {
+                    keys.add(normalize(skill));
+                }
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        ensureCapacity(ordinal + 1);
+        String[] seekerSkills = keys.toArray(NO_SKILLS);
+        idByOrdinal[ordinal] = user.getId();
+        skillsByOrdinal[ordinal] = seekerSkills;
+        years[ordinal] = user.getYearsOfExperience() != null ? user.getYearsOfExperience() : 0;
+        ordinalById.put(user.getId(), ordinal);
+
+        for (String key : seekerSkills) {
+            skills.computeIfAbsent(key, k -> new RoaringBitmap()).add(ordinal);
+        }
+        if (user.getLocation() != null && !user.getLocation().isBlank()) {
+            String key = normalize(user.getLocation());
+            locationByOrdinal[ordinal] = key;
+            locations.computeIfAbsent(key, k -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    private void removeInternal(String userId) {
+        Integer ordinal = ordinalById.remove(userId);
+        if (ordinal == null) {
+            return;
+        }
+        for (String key : skillsByOrdinal[ordinal]) {
+            removeFrom(skills, key, ordinal);
+        }
+        if (locationByOrdinal[ordinal] != null) {
+            removeFrom(locations, locationByOrdinal[ordinal], ordinal);
+        }
+        idByOrdinal[ordinal] = null;
+        skillsByOrdinal[ordinal] = null;
+        locationByOrdinal[ordinal] = null;
+        freeOrdinals.push(ordinal);
+    }
+
+    private static void removeFrom(Map<String, RoaringBitmap> bitmaps, String key, int ordinal) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        bitmap.remove(ordinal);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > idByOrdinal.length) {
+            int capacity = Math.max(size, idByOrdinal.length * 2);
+            idByOrdinal = Arrays.copyOf(idByOrdinal, capacity);
+            skillsByOrdinal = Arrays.copyOf(skillsByOrdinal, capacity);
+            locationByOrdinal = Arrays.copyOf(locationByOrdinal, capacity);
+            years = Arrays.copyOf(years, capacity);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Inputs shared by every shard of one ranking request
+     */
+    private record ShardQuery(RoaringBitmap[] lists, int requiredCount, int minYears,
+                              RoaringBitmap sameLocation, int limit) {
+    }
+
+    /**
+     * Scores one ordinal range, splitting it in half until it fits in a shard
+     */
+    private final class ShardTask extends RecursiveTask<TopKHeap> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ShardQuery query;
+        private final int from;
+        private final int to;
+
+        ShardTask(ShardQuery query, int from, int to) {
+            this.query = query;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TopKHeap compute() {
+            if (to - from <= shardSize) {
+                return scoreShard();
+            }
+            int mid = from + (to - from) / 2;
+            ShardTask left = new ShardTask(query, from, mid);
+            left.fork();
+            TopKHeap heap = new ShardTask(query, mid, to).compute();
+            heap.addAll(left.join());
+            return heap;
+        }
+
+        private TopKHeap scoreShard() {
+            byte[] matched = new byte[to - from];
+            for (RoaringBitmap posting : query.lists()) {
+                PeekableIntIterator it = posting.getIntIterator();
+                it.advanceIfNeeded(from);
+                while (it.hasNext()) {
+                    int ordinal = it.peekNext();
+                    if (ordinal >= to) {
+                        break;
+                    }
+                    matched[ordinal - from]++;
+                    it.next();
+                }
+            }
+
+            TopKHeap heap = new TopKHeap(query.limit());
+            for (int i = 0; i < matched.length; i++) {
+                if (matched[i] == 0) {
+                    continue;
+                }
+                int ordinal = from + i;
+                int missingYears = query.minYears() - years[ordinal];
+                float score = (float) matched[i] / query.requiredCount();
+                if (missingYears > 0) {
+                    score /= 1 + missingYears;
+                }
+                if (query.sameLocation() != null && query.sameLocation().contains(ordinal)) {
+                    score *= LOCATION_BONUS;
+                }
+                heap.offer(ordinal, score);
+            }
+            return heap;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.synkronos.ai.search;
+
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Answers searches from the in-heap {@link JobSearchIndex} without touching
+ * MongoDB. Falls back to the regex query until the index is loaded.
+ */
+@Component
+@ConditionalOnProperty(name = "search.backend", havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InMemoryJobSearchBackend implements JobSearchBackend {
+
+    private final JobSearchIndex jobSearchIndex;
+    private final JobRepository jobRepository;
+
+    @Override
+    public List<String> search(String query, int limit) {
+        if (!jobSearchIndex.isReady()) {
+            return jobRepository.searchActiveJobs(query, LocalDateTime.now()).stream()
+                .limit(limit)
+                .map(Job::getId)
+                .collect(Collectors.toList());
+        }
+        return jobSearchIndex.search(query, limit);
+    }
+}
@@ -0,0 +1,24 @@
+package com.synkronos.ai.search;
+
+/**
+ * Job attributes that search results can be filtered and counted by.
+ * {@link #getParam()} is the query parameter and facet name used by the API.
+ */
+public enum JobFacet {
+
+    LOCATION("location"),
+    EMPLOYMENT_TYPE("employmentType"),
+    EDUCATION_LEVEL("educationLevel"),
+    SKILL("skill"),
+    SALARY_BAND("salaryBand");
+
+    private final String param;
+
+    JobFacet(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+}
@@ -0,0 +1,315 @@
+package com.synkronos.ai.search;
+
+import com.synkronos.ai.dto.JobSearchResult.FacetCount;
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.service.JobCatalogListener;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory facet index over active jobs. Every job gets a dense int
+ * ordinal (reused after removal) and every facet value keeps a compressed
+ * bitmap of the ordinals that carry it, so filtering a result set and
+ * counting values are bitmap intersections rather than Mongo aggregations.
+ * Values within a facet are OR-ed and facets are AND-ed; each facet's counts
+ * ignore that facet's own filter so clients can offer the other values.
+ * Counting walks the hits' own values, so its cost follows the number of
+ * hits rather than the size of the facet vocabularies.
+ */
+@Component
+@Order(JobCatalogListener.INDEX_ORDER)
+@Slf4j
+public class JobFacetIndex implements JobCatalogListener {
+
+    /**
+     * Most frequent values first, then alphabetical
+     */
+    private static final Comparator<FacetCount> BY_COUNT = (a, b) -> b.getCount() != a.getCount()
+        ? Integer.compare(b.getCount(), a.getCount())
+        : a.getValue().compareTo(b.getValue());
+
+    @Value("${search.facets.max-values:20}")
+    private int maxValuesPerFacet;
+
+    @Value("${search.facets.salary-bands:50000,100000,150000,200000}")
+    private long[] salaryBands;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<JobFacet, Map<String, FacetValue>> values = new EnumMap<>(JobFacet.class);
+    private final Map<String, Integer> ordinalById = new HashMap<>();
+    private final List<String> idByOrdinal = new ArrayList<>();
+    private final List<List<FacetValue>> valuesByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private volatile boolean ready;
+
+    public JobFacetIndex() {
+        for (JobFacet facet : JobFacet.values()) {
+            values.put(facet, new HashMap<>());
+        }
+    }
+
+    @Override
+    public void onJobSaved(Job job) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(job.getId());
+            if (job.getStatus() == Job.JobStatus.ACTIVE) {
+                addInternal(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onJobRemoved(String jobId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onCatalogLoaded() {
+        ready = true;
+        log.info("Job facet index ready: {} jobs, {} skill values", ordinalById.size(), values.get(JobFacet.SKILL).size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Apply the facet filters to ranked search hits and count facet values over the hits
+     * (the caller decides how many ranked hits to pass in). Returns at most {@code limit}
+     * of the surviving ids, in their original order, and their total.
+     * Hits that are not in the index (no longer active) are dropped.
+     */
+    public FacetedHits filter(List<String> rankedIds, Map<JobFacet, Set<String>> filters, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] ordinals = new int[rankedIds.size()];
+            int hitCount = 0;
+            RoaringBitmap hits = new RoaringBitmap();
+            for (String id : rankedIds) {
+                Integer ordinal = ordinalById.get(id);
+                if (ordinal != null) {
+                    ordinals[hitCount++] = ordinal;
+                    hits.add(ordinal);
+                }
+            }
+
+            Map<JobFacet, RoaringBitmap> selections = new EnumMap<>(JobFacet.class);
+            filters.forEach((facet, selected) -> {
+                if (!selected.isEmpty()) {
+                    selections.put(facet, union(facet, selected));
+                }
+            });
+
+            RoaringBitmap matched = hits.clone();
+            selections.values().forEach(matched::and);
+
+            // A hit counts towards every facet when it passes all filters, and only towards
+            // facet F when F's filter is the one it fails, since F's counts ignore F's filter
+            Map<FacetValue, int[]> tallies = new IdentityHashMap<>();
+            PeekableIntIterator it = hits.getIntIterator();
+            while (it.hasNext()) {
+                int ordinal = it.next();
+                JobFacet failed = null;
+                boolean counted = true;
+                for (Map.Entry<JobFacet, RoaringBitmap> selection : selections.entrySet()) {
+                    if (!selection.getValue().contains(ordinal)) {
+                        if (failed != null) {
+                            counted = false;
+                            break;
+                        }
+                        failed = selection.getKey();
+                    }
+                }
+                if (!counted) {
+                    continue;
+                }
+                for (FacetValue value : valuesByOrdinal.get(ordinal)) {
+                    if (failed == null || value.facet == failed) {
+                        tallies.computeIfAbsent(value, v -> new int[1])[0]++;
+                    }
+                }
+            }
+
+            // Keep each facet's best values in a bounded heap whose head is the weakest kept value
+            Map<JobFacet, PriorityQueue<FacetCount>> best = new EnumMap<>(JobFacet.class);
+            for (JobFacet facet : JobFacet.values()) {
+                best.put(facet, new PriorityQueue<>(BY_COUNT.reversed()));
+            }
+            tallies.forEach((value, count) -> {
+                PriorityQueue<FacetCount> kept = best.get(value.facet);
+                if (kept.size() < maxValuesPerFacet) {
+                    kept.add(new FacetCount(value.label, count[0]));
+                } else if (count[0] >= kept.peek().getCount()) {
+                    FacetCount candidate = new FacetCount(value.label, count[0]);
+                    if (BY_COUNT.compare(candidate, kept.peek()) < 0) {
+                        kept.poll();
+                        kept.add(candidate);
+                    }
+                }
+            });
+
+            Map<JobFacet, List<FacetCount>> counts = new EnumMap<>(JobFacet.class);
+            best.forEach((facet, kept) -> {
+                List<FacetCount> sorted = new ArrayList<>(kept);
+                sorted.sort(BY_COUNT);
+                counts.put(facet, sorted);
+            });
+
+            List<String> ids = new ArrayList<>(Math.min(limit, hitCount));
+            for (int i = 0; i < hitCount && ids.size() < limit; i++) {
+                if (matched.contains(ordinals[i])) {
+                    ids.add(idByOrdinal.get(ordinals[i]));
+                }
+            }
+            return new FacetedHits(ids, matched.getCardinality(), counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap union(JobFacet facet, Collection<String> selected) {
+        Map<String, FacetValue> facetValues = values.get(facet);
+        RoaringBitmap union = new RoaringBitmap();
+        for (String value : selected) {
+            FacetValue facetValue = facetValues.get(normalize(value));
+            if (facetValue != null) {
+                union.or(facetValue.bitmap);
+            }
+        }
+        return union;
+    }
+
+    private void addInternal(Job job) {
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = idByOrdinal.size();
+            idByOrdinal.add(job.getId());
+            valuesByOrdinal.add(new ArrayList<>());
+        } else {
+            ordinal = freeOrdinals.pop();
+            idByOrdinal.set(ordinal, job.getId());
+        }
+        ordinalById.put(job.getId(), ordinal);
+
+        List<FacetValue> jobValues = valuesByOrdinal.get(ordinal);
+        tag(jobValues, ordinal, JobFacet.LOCATION, job.getLocation());
+        tag(jobValues, ordinal, JobFacet.EMPLOYMENT_TYPE, job.getEmploymentType());
+        tag(jobValues, ordinal, JobFacet.EDUCATION_LEVEL, job.getEducationLevel());
+        tag(jobValues, ordinal, JobFacet.SALARY_BAND,
+            salaryBand(job.getMinSalary() != null ? job.getMinSalary() : job.getMaxSalary()));
+        if (job.getRequiredSkills() != null) {
+            for (String skill : job.getRequiredSkills()) {
+                tag(jobValues, ordinal, JobFacet.SKILL, skill);
+            }
+        }
+    }
+
+    private void removeInternal(String jobId) {
+        Integer ordinal = ordinalById.remove(jobId);
+        if (ordinal == null) {
+            return;
+        }
+        List<FacetValue> jobValues = valuesByOrdinal.get(ordinal);
+        for (FacetValue value : jobValues) {
+            value.bitmap.remove(ordinal);
+            if (value.bitmap.isEmpty()) {
+                values.get(value.facet).remove(value.key);
+            }
+        }
+        jobValues.clear();
+        idByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    private void tag(List<FacetValue> jobValues, int ordinal, JobFacet facet, String label) {
+        if (label == null || label.isBlank()) {
+            return;
+        }
+        String key = normalize(label);
+        FacetValue value = values.get(facet).computeIfAbsent(key, k -> new FacetValue(facet, k, label.trim()));
+        if (value.bitmap.checkedAdd(ordinal)) {
+            jobValues.add(value);
+        }
+    }
+
+    /**
+     * Salary band label for the job's minimum salary, e.g. {@code 50k-100k} or {@code 200k+}
+     */
+    String salaryBand(BigDecimal salary) {
+        if (salary == null) {
+            return null;
+        }
+        long amount = salary.longValue();
+        long lower = 0;
+        for (long upper : salaryBands) {
+            if (amount < upper) {
+                return lower == 0 ? "<" + thousands(upper) : thousands(lower) + "-" + thousands(upper);
+            }
+            lower = upper;
+        }
+        return thousands(lower) + "+";
+    }
+
+    private static String thousands(long amount) {
+        return amount % 1000 == 0 ? (amount / 1000) + "k" : String.valueOf(amount);
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Search hits that survived the filters, their total and the facet counts
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class FacetedHits {
+        private final List<String> ids;
+        private final int total;
+        private final Map<JobFacet, List<FacetCount>> counts;
+    }
+
+    private static class FacetValue {
+        private final JobFacet facet;
+        private final String key;
+        private final String label;
+        private final RoaringBitmap bitmap = new RoaringBitmap();
+
+        FacetValue(JobFacet facet, String key, String label) {
+            this.facet = facet;
+            this.key = key;
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.synkronos.ai.search;
+
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.service.JobCatalogListener;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntConsumer;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Skill-to-job posting lists over active jobs for recommendations. Each job
+ * gets a dense int ordinal (reused after removal) and each required skill
+ * keeps a compressed bitmap of ordinals. A query counts matches per ordinal
+ * in a scratch array while walking the seeker's skill lists, then scores each
+ * job that shares at least one skill into a bounded top-K heap, so the
+ * candidate set is never sorted.
+ * <p>
+ * Score = matched / sqrt(required skills) (cosine overlap of the skill sets)
+ * times the experience fit, 1 when the seeker meets {@code minYearsOfExperience}
+ * and {@code 1 / (1 + missing years)} otherwise.
+ */
+@Component
+@Order(JobCatalogListener.INDEX_ORDER)
+@Slf4j
+public class JobRecommendationIndex implements JobCatalogListener {
+
+    private static final String[] NO_SKILLS = new String[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    private final Map<String, Integer> ordinalById = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private String[] idByOrdinal = new String[1024];
+    private String[][] skillsByOrdinal = new String[1024][];
+    private float[] lengthNorms = new float[1024];
+    private int[] minYears = new int[1024];
+    private int nextOrdinal;
+    private volatile boolean ready;
+
+    @Override
+    public void onJobSaved(Job job) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(job.getId());
+            if (job.getStatus() == Job.JobStatus.ACTIVE) {
+                addInternal(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onJobRemoved(String jobId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onCatalogLoaded() {
+        ready = true;
+        log.info("Job recommendation index ready: {} jobs, {} skills", ordinalById.size(), postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Return the ids of the {@code limit} best-matching active jobs for the seeker's skills, best first
+     */
+    public List<String> recommend(Collection<String> skills, Integer yearsOfExperience, int limit) {
+        if (skills == null || skills.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        for (String skill : skills) {
+            if (skill != null && !skill.isBlank()) {
+                keys.add(normalize(skill));
+            }
+        }
+        int years = yearsOfExperience != null ? yearsOfExperience : 0;
+
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> lists = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                RoaringBitmap posting = postings.get(key);
+                if (posting != null && lists.size() < Byte.MAX_VALUE) {
+                    lists.add(posting);
+                }
+            }
+            if (lists.isEmpty()) {
+                return List.of();
+            }
+
+            // First pass counts matched skills per job; the second scores each job once and clears its slot
+            byte[] matched = new byte[nextOrdinal];
+            for (RoaringBitmap posting : lists) {
+                posting.forEach((IntConsumer) doc -> matched[doc]++);
+            }
+            TopKHeap heap = new TopKHeap(limit);
+            for (RoaringBitmap posting : lists) {
+                posting.forEach((IntConsumer) doc -> {
+                    int count = matched[doc];
+                    if (count != 0) {
+                        matched[doc] = 0;
+                        int missingYears = minYears[doc] - years;
+                        float fit = missingYears <= 0 ? 1f : 1f / (1 + missingYears);
+                        heap.offer(doc, count * lengthNorms[doc] * fit);
+                    }
+                });
+            }
+
+            int[] ordinals = heap.drainDescending(null);
+            List<String> ids = new ArrayList<>(ordinals.length);
+            for (int ordinal : ordinals) {
+                ids.add(idByOrdinal[ordinal]);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(Job job) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (job.getRequiredSkills() != null) {
+            for (String skill : job.getRequiredSkills()) {
+                if (skill != null && !skill.isBlank()) {
+                    keys.add(normalize(skill));
+                }
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        ensureCapacity(ordinal + 1);
+        String[] jobSkills = keys.toArray(NO_SKILLS);
+        idByOrdinal[ordinal] = job.getId();
+        skillsByOrdinal[ordinal] = jobSkills;
+        lengthNorms[ordinal] = (float) (1 / Math.sqrt(jobSkills.length));
+        minYears[ordinal] = job.getMinYearsOfExperience() != null ? job.getMinYearsOfExperience() : 0;
+        ordinalById.put(job.getId(), ordinal);
+
+        for (String key : jobSkills) {
+            postings.computeIfAbsent(key, k -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    private void removeInternal(String jobId) {
+        Integer ordinal = ordinalById.remove(jobId);
+        if (ordinal == null) {
+            return;
+        }
+        for (String key : skillsByOrdinal[ordinal]) {
+            RoaringBitmap posting = postings.get(key);
+            posting.remove(ordinal);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+        idByOrdinal[ordinal] = null;
+        skillsByOrdinal[ordinal] = null;
+        freeOrdinals.push(ordinal);
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > idByOrdinal.length) {
+            int capacity = Math.max(size, idByOrdinal.length * 2);
+            idByOrdinal = Arrays.copyOf(idByOrdinal, capacity);
+            skillsByOrdinal = Arrays.copyOf(skillsByOrdinal, capacity);
+            lengthNorms = Arrays.copyOf(lengthNorms, capacity);
+            minYears = Arrays.copyOf(minYears, capacity);
+        }
+    }
+
+    private static String normalize(String skill) {
+        return skill.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,15 @@
+package com.synkronos.ai.search;
+
+import java.util.List;
+
+/**
+ * Full-text search over active jobs. The implementation is selected with
+ * {@code search.backend}: {@code memory} (default), {@code text} or {@code regex}.
+ */
+public interface JobSearchBackend {
+
+    /**
+     * Return the ids of at most {@code limit} active jobs matching the query, most relevant first
+     */
+    List<String> search(String query, int limit);
+}
@@ -0,0 +1,392 @@
+package com.synkronos.ai.search;
+
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.service.JobCatalogListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over active jobs, ranked with BM25.
+ * Each job gets a dense int ordinal; posting lists are parallel int arrays
+ * of ordinals and term frequencies, appended in ordinal order so queries can
+ * merge them document-at-a-time into a bounded top-K heap. Updates tombstone
+ * the old ordinal and append a new one; the index is compacted once dead
+ * entries make up a quarter of it. Each list keeps its live document count,
+ * so IDF does not drift with tombstones.
+ * <p>
+ * Queries use MaxScore pruning: every list carries an upper bound on the score
+ * it can contribute, and once the heap is full, lists whose bounds together
+ * cannot beat the K-th score are only probed (by skipping ahead) for
+ * documents found in the other lists, never scanned.
+ */
+@Component
+@Order(JobCatalogListener.INDEX_ORDER)
+@ConditionalOnProperty(name = "search.backend", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class JobSearchIndex implements JobCatalogListener {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int COMPANY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    @Value("${search.index.compaction-min-dead:1024}")
+    private int compactionMinDead;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, Integer> ordinalById = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private String[] idByOrdinal = new String[1024];
+    private int[] docLengths = new int[1024];
+    private PostingList[][] listsByOrdinal = new PostingList[1024][];
+    private int nextOrdinal;
+    private int liveCount;
+    private int deadCount;
+    private long totalLength;
+    private volatile boolean ready;
+
+    @Override
+    public void onJobSaved(Job job) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(job.getId());
+            if (job.getStatus() == Job.JobStatus.ACTIVE) {
+                addInternal(job);
+            }
+            maybeCompact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onJobRemoved(String jobId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(jobId);
+            maybeCompact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onCatalogLoaded() {
+        ready = true;
+        log.info("Job search index ready: {} jobs, {} terms", liveCount, postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Return the ids of the top {@code limit} active jobs for the query, best first
+     */
+    public List<String> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return List.of();
+            }
+
+            float avgLength = (float) totalLength / liveCount;
+            List<TermScorer> scorers = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list != null && list.df > 0) {
+                    float idf = (float) Math.log(1 + (liveCount - list.df + 0.5) / (list.df + 0.5));
+                    scorers.add(new TermScorer(list, idf, avgLength));
+                }
+            }
+            if (scorers.isEmpty()) {
+                return List.of();
+            }
+
+            // Ascending by bound; bounds[i] is the most terms 0..i can add to a document together
+            scorers.sort((a, b) -> Float.compare(a.maxScore, b.maxScore));
+            TermScorer[] lists = scorers.toArray(new TermScorer[0]);
+            float[] bounds = new float[lists.length];
+            float sum = 0;
+            for (int i = 0; i < lists.length; i++) {
+                sum += lists[i].maxScore;
+                bounds[i] = sum;
+            }
+
+            TopKHeap heap = new TopKHeap(limit);
+            int essential = 0; // lists below this index are non-essential
+            while (essential < lists.length) {
+                int doc = Integer.MAX_VALUE;
+                for (int i = essential; i < lists.length; i++) {
+                    doc = Math.min(doc, lists[i].doc());
+                }
+                if (doc == Integer.MAX_VALUE) {
+                    break;
+                }
+
+                float lengthNorm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+                boolean isLive = live.get(doc);
+                float score = 0;
+                for (int i = essential; i < lists.length; i++) {
+                    if (lists[i].doc() == doc) {
+                        score += lists[i].score(lengthNorm);
+                        lists[i].cursor++;
+                    }
+                }
+                if (!isLive) {
+                    continue;
+                }
+
+                // Probe the non-essential lists, largest bound first, while the document can still make the heap
+                for (int i = essential - 1; i >= 0; i--) {
+                    if (heap.isFull() && score + bounds[i] <= heap.minScore()) {
+                        score = -1;
+                        break;
+                    }
+                    if (lists[i].advanceTo(doc) == doc) {
+                        score += lists[i].score(lengthNorm);
+                    }
+                }
+                if (score < 0) {
+                    continue;
+                }
+
+                heap.offer(doc, score);
+                if (heap.isFull()) {
+                    while (essential < lists.length && bounds[essential] <= heap.minScore()) {
+                        essential++;
+                    }
+                }
+            }
+
+            int[] ordinals = heap.drainDescending(null);
+            List<String> ids = new ArrayList<>(ordinals.length);
+            for (int ordinal : ordinals) {
+                ids.add(idByOrdinal[ordinal]);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(Job job) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = addTerms(frequencies, job.getTitle(), TITLE_WEIGHT)
+            + addTerms(frequencies, job.getCompanyName(), COMPANY_WEIGHT)
+            + addTerms(frequencies, job.getDescription(), DESCRIPTION_WEIGHT);
+
+        int ordinal = nextOrdinal++;
+        if (ordinal == idByOrdinal.length) {
+            idByOrdinal = Arrays.copyOf(idByOrdinal, ordinal * 2);
+            docLengths = Arrays.copyOf(docLengths, ordinal * 2);
+            listsByOrdinal = Arrays.copyOf(listsByOrdinal, ordinal * 2);
+        }
+        idByOrdinal[ordinal] = job.getId();
+        docLengths[ordinal] = length;
+        live.set(ordinal);
+        ordinalById.put(job.getId(), ordinal);
+        liveCount++;
+        totalLength += length;
+
+        PostingList[] lists = new PostingList[frequencies.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            PostingList list = postings.computeIfAbsent(entry.getKey(), t -> new PostingList());
+            list.add(ordinal, entry.getValue(), length);
+            lists[i++] = list;
+        }
+        listsByOrdinal[ordinal] = lists;
+    }
+
+    private void removeInternal(String jobId) {
+        Integer ordinal = ordinalById.remove(jobId);
+        if (ordinal == null) {
+            return;
+        }
+        live.clear(ordinal);
+        for (PostingList list : listsByOrdinal[ordinal]) {
+            list.df--;
+        }
+        listsByOrdinal[ordinal] = null;
+        idByOrdinal[ordinal] = null;
+        totalLength -= docLengths[ordinal];
+        liveCount--;
+        deadCount++;
+    }
+
+    private static int addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> terms = TextTokenizer.tokenize(text);
+        for (String term : terms) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+        return terms.size() * weight;
+    }
+
+    /**
+     * Renumber live documents densely and drop tombstoned postings
+     */
+    private void maybeCompact() {
+        if (deadCount < compactionMinDead || deadCount * 4 < nextOrdinal) {
+            return;
+        }
+
+        int[] remap = new int[nextOrdinal];
+        int count = 0;
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            remap[ordinal] = live.get(ordinal) ? count++ : -1;
+        }
+
+        String[] ids = new String[Math.max(1024, count * 2)];
+        int[] lengths = new int[ids.length];
+        PostingList[][] lists = new PostingList[ids.length][];
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            int target = remap[ordinal];
+            if (target >= 0) {
+                ids[target] = idByOrdinal[ordinal];
+                lengths[target] = docLengths[ordinal];
+                lists[target] = listsByOrdinal[ordinal];
+                ordinalById.put(idByOrdinal[ordinal], target);
+            }
+        }
+
+        Iterator<PostingList> it = postings.values().iterator();
+        while (it.hasNext()) {
+            PostingList list = it.next();
+            list.remap(remap, lengths);
+            if (list.size == 0) {
+                it.remove();
+            }
+        }
+
+        idByOrdinal = ids;
+        docLengths = lengths;
+        listsByOrdinal = lists;
+        live.clear();
+        live.set(0, count);
+        nextOrdinal = count;
+        deadCount = 0;
+        log.debug("Compacted job search index to {} jobs", count);
+    }
+
+    /**
+     * Ordinals and term frequencies of one term, in ascending ordinal order.
+     * {@code maxFreq} and {@code minLength} bound the BM25 score of any entry;
+     * they only tighten on compaction, which keeps them valid upper bounds.
+     */
+    private static final class PostingList {
+        int[] docs = new int[4];
+        int[] freqs = new int[4];
+        int size;
+        int df; // live documents, excluding tombstones
+        int maxFreq;
+        int minLength = Integer.MAX_VALUE;
+
+        void add(int doc, int freq, int length) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            df++;
+            maxFreq = Math.max(maxFreq, freq);
+            minLength = Math.min(minLength, length);
+        }
+
+        void remap(int[] remap, int[] lengths) {
+            int kept = 0;
+            maxFreq = 0;
+            minLength = Integer.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                int target = remap[docs[i]];
+                if (target >= 0) {
+                    docs[kept] = target;
+                    freqs[kept] = freqs[i];
+                    maxFreq = Math.max(maxFreq, freqs[i]);
+                    minLength = Math.min(minLength, lengths[target]);
+                    kept++;
+                }
+            }
+            size = kept;
+            if (kept < docs.length / 4) {
+                docs = Arrays.copyOf(docs, Math.max(kept, 4));
+                freqs = Arrays.copyOf(freqs, Math.max(kept, 4));
+            }
+        }
+    }
+
+    /**
+     * Cursor over one query term's posting list, with the term's IDF and score bound
+     */
+    private static final class TermScorer {
+        final PostingList list;
+        final float idf;
+        final float maxScore;
+        int cursor;
+
+        TermScorer(PostingList list, float idf, float avgLength) {
+            this.list = list;
+            this.idf = idf;
+            // BM25 grows with tf and shrinks with document length
+            this.maxScore = idf * (list.maxFreq * (K1 + 1))
+                / (list.maxFreq + K1 * (1 - B + B * list.minLength / avgLength));
+        }
+
+        /**
+         * Ordinal under the cursor, or {@code Integer.MAX_VALUE} when exhausted
+         */
+        int doc() {
+            return cursor < list.size ? list.docs[cursor] : Integer.MAX_VALUE;
+        }
+
+        float score(float lengthNorm) {
+            int tf = list.freqs[cursor];
+            return idf * (tf * (K1 + 1)) / (tf + lengthNorm);
+        }
+
+        /**
+         * Move the cursor to the first entry at or after {@code target} (galloping, then binary search)
+         */
+        int advanceTo(int target) {
+            int[] docs = list.docs;
+            if (cursor >= list.size || docs[cursor] >= target) {
+                return doc();
+            }
+            int step = 1;
+            int low = cursor;
+            int high = cursor + 1;
+            while (high < list.size && docs[high] < target) {
+                low = high;
+                step <<= 1;
+                high = cursor + step;
+            }
+            int found = Arrays.binarySearch(docs, low + 1, Math.min(high, list.size - 1) + 1, target);
+            cursor = found >= 0 ? found : -found - 1;
+            return doc();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.synkronos.ai.search;
+
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Searches with the weighted MongoDB text index declared on {@link Job},
+ * sorted by text score, for deployments that cannot hold the catalog in heap.
+ */
+@Component
+@ConditionalOnProperty(name = "search.backend", havingValue = "text")
+@RequiredArgsConstructor
+public class MongoTextJobSearchBackend implements JobSearchBackend {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<String> search(String query, int limit) {
+        List<String> terms = TextTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        TextQuery textQuery = TextQuery.queryText(TextCriteria.forDefaultLanguage()
+                .matchingAny(terms.toArray(new String[0])))
+            .sortByScore();
+        textQuery.addCriteria(JobRepository.activeAt(LocalDateTime.now()));
+        textQuery.fields().include("_id");
+        textQuery.limit(limit);
+        return mongoTemplate.find(textQuery, Job.class).stream()
+            .map(Job::getId)
+            .collect(Collectors.toList());
+    }
+}
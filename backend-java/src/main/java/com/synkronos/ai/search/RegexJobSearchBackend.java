@@ -0,0 +1,30 @@
+package com.synkronos.ai.search;
+
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Legacy unranked case-insensitive regex scan, kept for comparison
+ */
+@Component
+@ConditionalOnProperty(name = "search.backend", havingValue = "regex")
+@RequiredArgsConstructor
+public class RegexJobSearchBackend implements JobSearchBackend {
+
+    private final JobRepository jobRepository;
+
+    @Override
+    public List<String> search(String query, int limit) {
+        return jobRepository.searchActiveJobs(query, LocalDateTime.now()).stream()
+            .limit(limit)
+            .map(Job::getId)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,351 @@
+package com.synkronos.ai.search;
+
+import com.synkronos.ai.dto.SuggestionDto;
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.entity.User;
+import com.synkronos.ai.service.JobCatalogListener;
+import com.synkronos.ai.service.SeekerProfileListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Typeahead over job titles, company names and skills (from active jobs and
+ * job seeker profiles). Terms live in a character trie whose nodes each cache
+ * the K heaviest terms below them, so a lookup is a walk down the prefix plus
+ * a copy of one small array, independent of how many terms share the prefix.
+ * <p>
+ * A term's weight is the number of jobs and seekers currently contributing it.
+ * Writes adjust weights along the term's path: an increase is merged into each
+ * cached list in place, and only a decrease of a cached term rebuilds that
+ * node's list from its children's lists.
+ */
+@Component
+@Order(JobCatalogListener.INDEX_ORDER)
+@Slf4j
+public class SuggestionIndex implements JobCatalogListener, SeekerProfileListener {
+
+    private static final int MAX_TERM_LENGTH = 64;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Heavier terms first, then alphabetical
+     */
+    private static final Comparator<Term> BY_WEIGHT = (a, b) ->
+        a.weight != b.weight ? Integer.compare(b.weight, a.weight) : a.key.compareTo(b.key);
+
+    @Value("${search.suggest.max-results:10}")
+    private int maxResults;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<String, Contribution[]> byJob = new HashMap<>();
+    private final Map<String, Contribution[]> bySeeker = new HashMap<>();
+    private int termCount;
+
+    @Override
+    public void onJobSaved(Job job) {
+        List<Contribution> terms = new ArrayList<>();
+        if (job.getStatus() == Job.JobStatus.ACTIVE) {
+            collect(terms, SuggestionDto.Type.TITLE, job.getTitle());
+            collect(terms, SuggestionDto.Type.COMPANY, job.getCompanyName());
+            collectAll(terms, job.getRequiredSkills());
+        }
+        replace(byJob, job.getId(), terms);
+    }
+
+    @Override
+    public void onJobRemoved(String jobId) {
+        replace(byJob, jobId, List.of());
+    }
+
+    @Override
+    public void onCatalogLoaded() {
+        log.info("Suggestion index loaded jobs: {} terms", termCount);
+    }
+
+    @Override
+    public void onSeekerSaved(User user) {
+        List<Contribution> terms = new ArrayList<>();
+        if (user.getRole() == User.UserRole.JOB_SEEKER && !Boolean.FALSE.equals(user.getIsActive())) {
+            collectAll(terms, user.getSkills());
+        }
+        replace(bySeeker, user.getId(), terms);
+    }
+
+    @Override
+    public void onSeekersLoaded() {
+        log.info("Suggestion index loaded seekers: {} terms", termCount);
+    }
+
+    /**
+     * Return up to {@code limit} terms starting with the prefix, most frequent first
+     */
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        String key = prefix == null ? "" : normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            int n = Math.min(limit, node.topSize);
+            List<SuggestionDto> result = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                Term term = node.top[i];
+                result.add(new SuggestionDto(term.label, term.type(), term.weight));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(List<Contribution> terms, SuggestionDto.Type type, String label) {
+        if (label == null) {
+            return;
+        }
+        String trimmed = label.trim();
+        String key = normalize(trimmed);
+        if (!key.isEmpty() && key.length() <= MAX_TERM_LENGTH) {
+            terms.add(new Contribution(key, trimmed, type));
+        }
+    }
+
+    private void collectAll(List<Contribution> terms, Collection<String> skills) {
+        if (skills != null) {
+            for (String skill : skills) {
+                collect(terms, SuggestionDto.Type.SKILL, skill);
+            }
+        }
+    }
+
+    /**
+     * Swap one source's contributions, applying removals before additions
+     */
+    private void replace(Map<String, Contribution[]> sources, String sourceId, List<Contribution> terms) {
+        Map<String, Contribution> distinct = new LinkedHashMap<>();
+        for (Contribution term : terms) {
+            distinct.putIfAbsent(term.type().ordinal() + term.key(), term);
+        }
+        Contribution[] added = distinct.values().toArray(new Contribution[0]);
+        lock.writeLock().lock();
+        try {
+            Contribution[] removed = added.length == 0 ? sources.remove(sourceId) : sources.put(sourceId, added);
+            if (removed != null) {
+                for (Contribution contribution : removed) {
+                    adjust(contribution, -1);
+                }
+            }
+            for (Contribution contribution : added) {
+                adjust(contribution, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void adjust(Contribution contribution, int delta) {
+        String key = contribution.key();
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = delta > 0 ? path[i].childOrCreate(key.charAt(i)) : path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        Node leaf = path[key.length()];
+        Term term = leaf.term;
+        if (term == null) {
+            if (delta < 0) {
+                return;
+            }
+            term = leaf.term = new Term(key, contribution.label());
+            termCount++;
+        }
+        term.counts[contribution.type().ordinal()] += delta;
+        term.weight += delta;
+
+        if (term.weight <= 0) {
+            leaf.term = null;
+            termCount--;
+        }
+        for (int depth = key.length(); depth >= 0; depth--) {
+            Node node = path[depth];
+            if (delta > 0) {
+                node.promote(term, maxResults);
+            } else {
+                node.demote(term, maxResults);
+            }
+            // Drop nodes that no longer hold any term
+            if (depth > 0 && node.term == null && node.childCount == 0) {
+                path[depth - 1].removeChild(key.charAt(depth - 1));
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return WHITESPACE.matcher(value.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    /**
+     * One term contributed by a job or seeker
+     */
+    private record Contribution(String key, String label, SuggestionDto.Type type) {
+    }
+
+    private static final class Term {
+        private final String key;
+        private final String label;
+        private final int[] counts = new int[SuggestionDto.Type.values().length];
+        private int weight;
+
+        Term(String key, String label) {
+            this.key = key;
+            this.label = label;
+        }
+
+        /**
+         * The role the term is contributed in most often
+         */
+        SuggestionDto.Type type() {
+            int best = 0;
+            for (int i = 1; i < counts.length; i++) {
+                if (counts[i] > counts[best]) {
+                    best = i;
+                }
+            }
+            return SuggestionDto.Type.values()[best];
+        }
+    }
+
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Term[] NO_TERMS = new Term[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private int childCount;
+        private Term term;
+        private Term[] top = NO_TERMS; // heaviest terms in this subtree, sorted by BY_WEIGHT
+        private int topSize;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(labels, 0, childCount, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(labels, 0, childCount, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            if (childCount == labels.length) {
+                int capacity = Math.max(2, childCount * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(labels, at, labels, at + 1, childCount - at);
+            System.arraycopy(children, at, children, at + 1, childCount - at);
+            Node node = new Node();
+            labels[at] = c;
+            children[at] = node;
+            childCount++;
+            return node;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(labels, 0, childCount, c);
+            if (i >= 0) {
+                System.arraycopy(labels, i + 1, labels, i, childCount - i - 1);
+                System.arraycopy(children, i + 1, children, i, childCount - i - 1);
+                children[--childCount] = null;
+            }
+        }
+
+        /**
+         * The term's weight went up: move it up the cached list or let it displace the lightest entry
+         */
+        void promote(Term term, int k) {
+            int i = indexOf(term);
+            if (i < 0) {
+                if (topSize < k) {
+                    if (topSize == top.length) {
+                        // Grow lazily: most deep nodes only ever hold one or two terms
+                        top = Arrays.copyOf(top, Math.min(k, Math.max(2, topSize * 2)));
+                    }
+                    i = topSize++;
+                } else if (BY_WEIGHT.compare(term, top[topSize - 1]) < 0) {
+                    i = topSize - 1;
+                } else {
+                    return;
+                }
+                top[i] = term;
+            }
+            while (i > 0 && BY_WEIGHT.compare(top[i], top[i - 1]) < 0) {
+                Term swap = top[i - 1];
+                top[i - 1] = top[i];
+                top[i] = swap;
+                i--;
+            }
+        }
+
+        /**
+         * The term's weight went down: if it was cached, an unlisted term may now outrank it,
+         * so rebuild the list from this node's own term and its children's lists
+         */
+        void demote(Term term, int k) {
+            if (indexOf(term) < 0) {
+                return;
+            }
+            List<Term> candidates = new ArrayList<>();
+            if (this.term != null) {
+                candidates.add(this.term);
+            }
+            for (int c = 0; c < childCount; c++) {
+                Node child = children[c];
+                candidates.addAll(Arrays.asList(child.top).subList(0, child.topSize));
+            }
+            candidates.sort(BY_WEIGHT);
+            topSize = Math.min(k, candidates.size());
+            top = new Term[topSize];
+            for (int i = 0; i < topSize; i++) {
+                top[i] = candidates.get(i);
+            }
+        }
+
+        private int indexOf(Term term) {
+            for (int i = 0; i < topSize; i++) {
+                if (top[i] == term) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
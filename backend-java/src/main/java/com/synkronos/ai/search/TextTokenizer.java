@@ -0,0 +1,41 @@
+package com.synkronos.ai.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits free text into lowercase terms. Letters and digits form terms, and
+ * '+', '#' and inner '.' are kept so skills like "c++", "c#" and "node.js"
+ * survive as single terms.
+ */
+public final class TextTokenizer {
+
+    private TextTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            boolean innerDot = c == '.' && term.length() > 0 && i + 1 < lower.length()
+                && Character.isLetterOrDigit(lower.charAt(i + 1));
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#' || innerDot) {
+                term.append(c);
+            } else if (term.length() > 0) {
+                terms.add(term.toString());
+                term.setLength(0);
+            }
+        }
+        if (term.length() > 0) {
+            terms.add(term.toString());
+        }
+        return terms;
+    }
+}
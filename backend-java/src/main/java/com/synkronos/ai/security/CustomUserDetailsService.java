@@ -1,45 +1,98 @@
 package com.synkronos.ai.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.synkronos.ai.entity.User;
 import com.synkronos.ai.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
-import java.util.Collections;
+import java.time.Duration;
 
 /**
- * Custom user details service for Spring Security
+ * Custom user details service for Spring Security.
+ * Keeps a bounded cache of the auth-relevant user fields only; entries are
+ * evicted by {@link com.synkronos.ai.service.UserService} on profile writes.
  */
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.user-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${security.user-cache.ttl:PT10M}")
+    private Duration cacheTtl;
+
+    private Cache<String, AuthUser> authUserCache;
+
+    @PostConstruct
+    void init() {
+        authUserCache = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfterWrite(cacheTtl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, authUserCache, "auth.users");
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        AuthUser user = loadAuthUser(email);
+
+        // A fresh principal per call: Spring Security erases credentials on the
+        // returned instance after authentication, so it must never be shared
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getRole(), user.isActive(), user.getPassword());
+    }
+
+    /**
+     * Load the slim auth projection of a user, from cache when possible
+     */
+    public AuthUser loadAuthUser(String email) throws UsernameNotFoundException {
+        AuthUser cached = authUserCache.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        User user = userRepository.findAuthProjectionByEmail(email)
             .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getPassword(),
+            user.getRole(), Boolean.TRUE.equals(user.getIsActive()));
+        authUserCache.put(email, authUser);
+        return authUser;
+    }
 
-        return org.springframework.security.core.userdetails.User.builder()
-            .username(user.getEmail())
-            .password(user.getPassword())
-            .authorities(getAuthorities(user))
-            .accountExpired(false)
-            .accountLocked(!user.getIsActive())
-            .credentialsExpired(false)
-            .disabled(!user.getIsActive())
-            .build();
+    /**
+     * Drop the cached entry for a user after a write
+     */
+    public void evict(String email) {
+        if (email != null) {
+            authUserCache.invalidate(email);
+        }
     }
 
-    private Collection<? extends GrantedAuthority> getAuthorities(User user) {
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+    /**
+     * Immutable auth projection of a user: id, email, password hash, role and active flag
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AuthUser {
+        private final String id;
+        private final String email;
+        private final String password;
+        private final User.UserRole role;
+        private final boolean active;
     }
 }
-
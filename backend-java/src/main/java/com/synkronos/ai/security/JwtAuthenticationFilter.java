@@ -1,11 +1,15 @@
 package com.synkronos.ai.security;
 
+import com.synkronos.ai.entity.User;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -17,7 +21,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 /**
- * JWT authentication filter to intercept requests and validate tokens
+ * JWT authentication filter to intercept requests and validate tokens.
+ * The token is parsed and verified once per request. In stateless mode the
+ * authentication is built from the token's user id and role claims without
+ * touching the user repository; tokens issued without those claims fall back
+ * to a single user lookup.
  */
 @Component
 @RequiredArgsConstructor
@@ -26,20 +34,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
 
+    @Value("${jwt.stateless-auth:true}")
+    private boolean statelessAuth;
+
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                    FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt, 
-                userDetailsService.loadUserByUsername(tokenProvider.getUsernameFromToken(jwt)))) {
-                
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                
-                UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            if (StringUtils.hasText(jwt)) {
+                Claims claims = tokenProvider.parseClaims(jwt);
+                if (tokenProvider.isRefreshToken(claims)) {
+                    throw new IllegalArgumentException("Refresh tokens cannot be used as access tokens");
+                }
+
+                UsernamePasswordAuthenticationToken authentication =
+                    statelessAuth && tokenProvider.hasIdentityClaims(claims)
+                        ? authenticationFromClaims(claims)
+                        : authenticationFromUserDetails(claims.getSubject());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -51,6 +64,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UsernamePasswordAuthenticationToken authenticationFromClaims(Claims claims) {
+        UserPrincipal principal = UserPrincipal.fromToken(
+            claims.get(JwtTokenProvider.CLAIM_USER_ID, String.class),
+            claims.getSubject(),
+            User.UserRole.valueOf(claims.get(JwtTokenProvider.CLAIM_ROLE, String.class)));
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private UsernamePasswordAuthenticationToken authenticationFromUserDetails(String username) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (!userDetails.isEnabled()) {
+            throw new IllegalStateException("User account is disabled: " + username);
+        }
+        if (userDetails instanceof CredentialsContainer credentials) {
+            credentials.eraseCredentials();
+        }
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -59,4 +91,3 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 }
-
@@ -1,25 +1,48 @@
 package com.synkronos.ai.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.synkronos.ai.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
- * JWT token generation and validation utility
+ * JWT token generation and validation utility.
+ * The signing key and parser are built once at startup, and verified claims
+ * are cached by token digest until the token expires so repeat requests with
+ * the same bearer token skip signature verification and JSON decoding.
  */
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_TYPE = "typ";
+    public static final String TOKEN_TYPE_REFRESH = "refresh";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -29,8 +52,27 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration}")
     private Long refreshExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    @Value("${jwt.cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    private final MeterRegistry meterRegistry;
+
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private Cache<String, Claims> claimsCache;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+            .verifyWith(signingKey)
+            .build();
+        claimsCache = Caffeine.newBuilder()
+            .maximumSize(claimsCacheMaxSize)
+            .expireAfter(new ClaimsExpiry())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwt.claims");
     }
 
     /**
@@ -51,19 +93,52 @@ public class JwtTokenProvider {
      * Extract a specific claim from token
      */
     public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
+        final Claims claims = parseClaims(token);
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Verify the token signature and expiry once and return its claims.
+     * Throws a {@link io.jsonwebtoken.JwtException} if the token is invalid.
+     */
+    public Claims parseClaims(String token) {
+        String key = digest(token);
+        Claims cached = claimsCache.getIfPresent(key);
+        if (cached != null) {
+            if (cached.getExpiration().after(new Date())) {
+                return cached;
+            }
+            claimsCache.invalidate(key);
+        }
+
+        Claims claims = getAllClaimsFromToken(token);
+        if (claims.getExpiration() != null) {
+            claimsCache.put(key, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * Check whether the token carries the user id and role claims needed
+     * to authenticate without loading the user
+     */
+    public boolean hasIdentityClaims(Claims claims) {
+        return claims.get(CLAIM_USER_ID, String.class) != null
+            && claims.get(CLAIM_ROLE, String.class) != null;
+    }
+
+    /**
+     * Check whether the claims belong to a refresh token
+     */
+    public boolean isRefreshToken(Claims claims) {
+        return TOKEN_TYPE_REFRESH.equals(claims.get(CLAIM_TOKEN_TYPE, String.class));
+    }
+
     /**
      * Get all claims from token
      */
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -75,31 +150,60 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Generate access token for user
+     * Generate access token for user, embedding the user id and role
      */
-    public String generateAccessToken(UserDetails userDetails) {
-        Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername(), jwtExpiration);
+    public String generateAccessToken(User user) {
+        return generateAccessToken(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    /**
+     * Generate access token from the user's identity fields
+     */
+    public String generateAccessToken(String userId, String email, User.UserRole role) {
+        return createToken(identityClaims(userId, role), email, jwtExpiration, null);
     }
 
     /**
-     * Generate refresh token for user
+     * Generate refresh token for user with a unique id (jti) so it can be rotated and revoked
      */
-    public String generateRefreshToken(UserDetails userDetails) {
+    public String generateRefreshToken(User user) {
+        return generateRefreshToken(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    /**
+     * Generate refresh token from the user's identity fields
+     */
+    public String generateRefreshToken(String userId, String email, User.UserRole role) {
+        Map<String, Object> claims = identityClaims(userId, role);
+        claims.put(CLAIM_TOKEN_TYPE, TOKEN_TYPE_REFRESH);
+        return createToken(claims, email, refreshExpiration, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Access token lifetime in milliseconds
+     */
+    public Long getAccessTokenExpiration() {
+        return jwtExpiration;
+    }
+
+    private Map<String, Object> identityClaims(String userId, User.UserRole role) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername(), refreshExpiration);
+        claims.put(CLAIM_USER_ID, userId);
+        claims.put(CLAIM_ROLE, role.name());
+        return claims;
     }
 
     /**
      * Create JWT token
      */
-    private String createToken(Map<String, Object> claims, String subject, Long expiration) {
+    private String createToken(Map<String, Object> claims, String subject, Long expiration, String tokenId) {
         return Jwts.builder()
             .claims(claims)
+            .id(tokenId)
             .subject(subject)
             .issuedAt(new Date(System.currentTimeMillis()))
             .expiration(new Date(System.currentTimeMillis() + expiration))
-            .signWith(getSigningKey())
+            .signWith(signingKey)
             .compact();
     }
 
@@ -110,5 +214,35 @@ public class JwtTokenProvider {
         final String username = getUsernameFromToken(token);
         return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
     }
-}
 
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Expires each cached entry at the token's own {@code exp} claim
+     */
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.synkronos.ai.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-principal token-bucket rate limiting for expensive endpoint groups.
+ * Runs after {@link JwtAuthenticationFilter} so authenticated callers are
+ * keyed by user id and anonymous callers by client IP. Each bucket is a
+ * single atomic timestamp (GCRA), so checks are lock-free.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Endpoint groups with separate quotas
+     */
+    public enum Group {
+        AUTH, SEARCH, APPLY, UPLOAD
+    }
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.auth.capacity:10}")
+    private int authCapacity;
+
+    @Value("${rate-limit.auth.refill-per-minute:20}")
+    private int authRefillPerMinute;
+
+    @Value("${rate-limit.search.capacity:30}")
+    private int searchCapacity;
+
+    @Value("${rate-limit.search.refill-per-minute:120}")
+    private int searchRefillPerMinute;
+
+    @Value("${rate-limit.apply.capacity:5}")
+    private int applyCapacity;
+
+    @Value("${rate-limit.apply.refill-per-minute:20}")
+    private int applyRefillPerMinute;
+
+    @Value("${rate-limit.upload.capacity:3}")
+    private int uploadCapacity;
+
+    @Value("${rate-limit.upload.refill-per-minute:10}")
+    private int uploadRefillPerMinute;
+
+    private final Map<Group, Quota> quotas = new EnumMap<>(Group.class);
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        quotas.put(Group.AUTH, new Quota(authCapacity, authRefillPerMinute));
+        quotas.put(Group.SEARCH, new Quota(searchCapacity, searchRefillPerMinute));
+        quotas.put(Group.APPLY, new Quota(applyCapacity, applyRefillPerMinute));
+        quotas.put(Group.UPLOAD, new Quota(uploadCapacity, uploadRefillPerMinute));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Group group = enabled ? classify(request) : null;
+        if (group != null) {
+            Quota quota = quotas.get(group);
+            String key = group.name() + ':' + clientKey(request);
+            long waitNanos = buckets.computeIfAbsent(key, k -> new Bucket()).tryAcquire(quota);
+            if (waitNanos > 0) {
+                long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+                response.setStatus(429);
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getWriter().write("{\"error\":\"Too many requests, retry after " + retryAfterSeconds + "s\"}");
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Drop buckets that have fully refilled; they are equivalent to a new bucket
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        log.debug("Evicted {} idle rate-limit buckets", before - buckets.size());
+    }
+
+    private Group classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+        if (path.startsWith("/api/auth/")) {
+            return "POST".equals(method) ? Group.AUTH : null;
+        }
+        if (path.equals("/api/jobs/search")) {
+            return Group.SEARCH;
+        }
+        if (path.equals("/api/applications") && "POST".equals(method)) {
+            return Group.APPLY;
+        }
+        if (path.startsWith("/api/upload/")) {
+            return Group.UPLOAD;
+        }
+        return null;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * Bucket capacity and the interval between two refilled tokens
+     */
+    private static final class Quota {
+        final long emissionIntervalNanos;
+        final long burstNanos;
+
+        Quota(int capacity, int refillPerMinute) {
+            this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(refillPerMinute, 1);
+            this.burstNanos = emissionIntervalNanos * Math.max(capacity, 1);
+        }
+    }
+
+    /**
+     * Token bucket stored as its theoretical arrival time: the instant at which
+     * the bucket would be full again. Taking a token pushes it one emission
+     * interval forward; the request is allowed while it stays within the burst.
+     */
+    private static final class Bucket {
+        private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+
+        /**
+         * Returns 0 if a token was taken, otherwise the nanos to wait for one
+         */
+        long tryAcquire(Quota quota) {
+            while (true) {
+                long now = System.nanoTime();
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now) + quota.emissionIntervalNanos;
+                long excess = next - now - quota.burstNanos;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean isIdle(long now) {
+            return theoreticalArrival.get() - now <= 0;
+        }
+    }
+}
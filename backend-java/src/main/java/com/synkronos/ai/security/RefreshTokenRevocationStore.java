@@ -0,0 +1,124 @@
+package com.synkronos.ai.security;
+
+import com.synkronos.ai.entity.RevokedToken;
+import com.synkronos.ai.repository.RevokedTokenRepository;
+import com.synkronos.ai.utils.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked refresh token ids. A Bloom filter sits in front of an exact
+ * in-memory set so the common "not revoked" answer is a few bit probes;
+ * revocations are persisted to MongoDB (with a TTL index) so they survive
+ * restarts, and expired ids are purged from memory on a schedule.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenRevocationStore {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${security.revocation.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${security.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    /** jti -> token expiry in epoch millis */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private volatile LocalDateTime lastSync;
+
+    @PostConstruct
+    void load() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.findByExpiresAtAfter(now).forEach(this::remember);
+        lastSync = now;
+        rebuildFilter();
+        log.info("Loaded {} revoked refresh tokens", revoked.size());
+    }
+
+    /**
+     * Whether the token id has been revoked; never touches the database
+     */
+    public boolean isRevoked(String jti) {
+        return bloomFilter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    /**
+     * Revoke a token id until its expiry. Returns false if it was already
+     * revoked, which makes rotation safe against concurrent reuse.
+     */
+    public boolean revoke(String jti, String userId, Date expiresAt) {
+        if (isRevoked(jti)) {
+            return false;
+        }
+
+        RevokedToken token = RevokedToken.builder()
+            .jti(jti)
+            .userId(userId)
+            .revokedAt(LocalDateTime.now())
+            .expiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()))
+            .build();
+        try {
+            revokedTokenRepository.insert(token);
+        } catch (DuplicateKeyException e) {
+            remember(token);
+            return false;
+        }
+        remember(token);
+        return true;
+    }
+
+    /**
+     * Drop expired ids and pick up revocations made by other instances
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.sync-interval-ms:60000}")
+    public void purgeAndSync() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> recent = revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(lastSync.minusMinutes(1), now);
+        recent.forEach(this::remember);
+        lastSync = now;
+
+        long nowMillis = System.currentTimeMillis();
+        int before = revoked.size();
+        revoked.values().removeIf(expiry -> expiry <= nowMillis);
+        if (revoked.size() < before) {
+            // Bloom filters cannot delete, so rebuild from the live set
+            rebuildFilter();
+        }
+    }
+
+    private void remember(RevokedToken token) {
+        long expiry = token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (expiry > Instant.now().toEpochMilli()) {
+            revoked.put(token.getJti(), expiry);
+            BloomFilter filter = bloomFilter;
+            if (filter != null) {
+                filter.put(token.getJti());
+            }
+        }
+    }
+
+    private void rebuildFilter() {
+        BloomFilter filter = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2L), falsePositiveRate);
+        revoked.keySet().forEach(filter::put);
+        bloomFilter = filter;
+        // Ids added while rebuilding may have gone to the old filter
+        revoked.keySet().forEach(filter::put);
+    }
+}
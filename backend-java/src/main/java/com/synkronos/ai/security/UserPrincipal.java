@@ -0,0 +1,88 @@
+package com.synkronos.ai.security;
+
+import com.synkronos.ai.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Authenticated caller as seen by controllers: user id, email and role.
+ * Built by the security layer from token claims or the cached auth
+ * projection, so resolving the caller never needs a database read.
+ */
+@Getter
+public class UserPrincipal implements UserDetails, CredentialsContainer {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Map<User.UserRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(User.UserRole.class);
+
+    static {
+        for (User.UserRole role : User.UserRole.values()) {
+            AUTHORITIES.put(role, AuthorityUtils.createAuthorityList("ROLE_" + role.name()));
+        }
+    }
+
+    private final String id;
+    private final String email;
+    private final User.UserRole role;
+    private final boolean active;
+    private String password;
+
+    public UserPrincipal(String id, String email, User.UserRole role, boolean active, String password) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.active = active;
+        this.password = password;
+    }
+
+    /**
+     * Principal for a verified access token; tokens carry no password
+     */
+    public static UserPrincipal fromToken(String id, String email, User.UserRole role) {
+        return new UserPrincipal(id, email, role, true, null);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES.get(role);
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return active;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return active;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+}
@@ -1,32 +1,40 @@
 package com.synkronos.ai.service;
 
+import com.synkronos.ai.dto.ApplicantPage;
 import com.synkronos.ai.dto.ApplicationDto;
+import com.synkronos.ai.dto.CursorPage;
+import com.synkronos.ai.dto.FieldSelection;
 import com.synkronos.ai.dto.JobDto;
-import com.synkronos.ai.dto.MatchScoreRequest;
-import com.synkronos.ai.dto.MatchScoreResponse;
 import com.synkronos.ai.entity.Application;
 import com.synkronos.ai.entity.Job;
 import com.synkronos.ai.entity.User;
 import com.synkronos.ai.repository.ApplicationRepository;
 import com.synkronos.ai.repository.JobRepository;
+import com.synkronos.ai.repository.KeysetPager;
 import com.synkronos.ai.repository.UserRepository;
 import com.synkronos.ai.utils.MapperUtil;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Service for job application management and AI scoring
@@ -39,14 +47,20 @@ public class ApplicationService {
     private final ApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final MatchScoringWorker matchScoringWorker;
+    private final KeysetPager keysetPager;
+    private final MongoTemplate mongoTemplate;
 
-    @Value("${ml.service.url:http://ml-engine:5000}")
-    private String mlServiceUrl;
+    // Job seeker fields shown in the recruiter's applicant list unless the client selects others
+    private static final FieldSelection APPLICANT_FIELDS = FieldSelection.of(
+        "firstName,lastName,email,location,currentPosition,yearsOfExperience,skills,resumeUrl", null);
+
+    @Value("${applications.job-join:batch}")
+    private String jobJoin;
 
     /**
-     * Apply to a job with AI scoring
+     * Apply to a job. The application is saved right away and scored in the background
+     * (see {@link MatchScoringWorker}); until then its {@code scoringState} is PENDING.
      */
     @Transactional
     public ApplicationDto applyToJob(String jobId, String jobSeekerId, String coverLetter) {
@@ -55,127 +69,207 @@ public class ApplicationService {
             throw new RuntimeException("Already applied to this job");
         }
 
-        Job job = jobRepository.findById(jobId)
-            .orElseThrow(() -> new RuntimeException("Job not found"));
-
-        User jobSeeker = userRepository.findById(jobSeekerId)
-            .orElseThrow(() -> new RuntimeException("Job seeker not found"));
-
-        // Get AI match score
-        Double matchScore = null;
-        String matchBreakdown = null;
+        if (!jobRepository.existsById(jobId)) {
+            throw new RuntimeException("Job not found");
+        }
 
-        try {
-            MatchScoreResponse scoreResponse = getMatchScore(jobSeeker, job);
-            matchScore = scoreResponse.getOverallScore();
-            matchBreakdown = objectMapper.writeValueAsString(scoreResponse.getBreakdown());
-        } catch (Exception e) {
-            log.error("Error getting match score from ML service: {}", e.getMessage());
-            // Continue without score if ML service fails
+        if (!userRepository.existsById(jobSeekerId)) {
+            throw new RuntimeException("Job seeker not found");
         }
 
         Application application = Application.builder()
             .jobId(jobId)
             .jobSeekerId(jobSeekerId)
             .status(Application.ApplicationStatus.PENDING)
-            .matchScore(matchScore)
-            .matchBreakdown(matchBreakdown)
             .coverLetter(coverLetter)
             .build();
+        matchScoringWorker.markPending(application);
 
         application = applicationRepository.save(application);
+        matchScoringWorker.enqueue(application.getId());
         return MapperUtil.mapToApplicationDto(application);
     }
 
     /**
-     * Get match score from ML service
+     * Get a page of applications by job seeker, most recent first. The job is embedded unless
+     * {@code expand} says otherwise.
      */
-    private MatchScoreResponse getMatchScore(User jobSeeker, Job job) {
-        
-        // Build resume text from user profile
-        StringBuilder resumeText = new StringBuilder();
-        if (jobSeeker.getFirstName() != null) resumeText.append(jobSeeker.getFirstName()).append(" ");
-        if (jobSeeker.getLastName() != null) resumeText.append(jobSeeker.getLastName()).append("\n");
-        if (jobSeeker.getCurrentPosition() != null) resumeText.append(jobSeeker.getCurrentPosition()).append("\n");
-        if (jobSeeker.getBio() != null) resumeText.append(jobSeeker.getBio()).append("\n");
-        if (jobSeeker.getYearsOfExperience() != null) {
-            resumeText.append(jobSeeker.getYearsOfExperience()).append(" years of experience\n");
-        }
-        if (jobSeeker.getSkills() != null && !jobSeeker.getSkills().isEmpty()) {
-            resumeText.append("Skills: ").append(String.join(", ", jobSeeker.getSkills())).append("\n");
-        }
-        if (jobSeeker.getResumeUrl() != null) {
-            resumeText.append("Resume available at: ").append(jobSeeker.getResumeUrl());
-        }
-        
-        MatchScoreRequest request = MatchScoreRequest.builder()
-            .resumeText(resumeText.toString())
-            .jobRequiredSkills(job.getRequiredSkills())
-            .jobMinYearsOfExperience(job.getMinYearsOfExperience())
-            .jobDescription(job.getDescription())
-            .build();
+    public CursorPage<ApplicationDto> getApplicationsByJobSeeker(String jobSeekerId, FieldSelection fields,
+                                                                 String cursor, Integer limit) {
+        Criteria filter = Criteria.where("jobSeekerId").is(jobSeekerId);
+        if (!fields.expands("job", true)) {
+            return pageApplications(filter, fields, cursor, limit, "jobId")
+                .map(app -> MapperUtil.mapToApplicationDto(app, fields));
+        }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<MatchScoreRequest> entity = new HttpEntity<>(request, headers);
-
-        try {
-            ResponseEntity<MatchScoreResponse> response = restTemplate.postForEntity(
-                mlServiceUrl + "/predict-score",
-                entity,
-                MatchScoreResponse.class
-            );
-            return response.getBody();
-        } catch (Exception e) {
-            log.error("ML service error: {}", e.getMessage());
-            // Return default score if ML service fails
-            return MatchScoreResponse.builder()
-                .overallScore(50.0)
-                .breakdown(new HashMap<>())
-                .build();
+        FieldSelection jobFields = fields.nested("job");
+        if ("lookup".equals(jobJoin)) {
+            return pageApplicationsWithJobs(filter, fields, jobFields, cursor, limit)
+                .map(joined -> withJob(MapperUtil.mapToApplicationDto(joined.application(), fields), joined.job(), jobFields));
         }
+
+        // One $in query for the page's jobs instead of one findById per application
+        CursorPage<Application> page = pageApplications(filter, fields, cursor, limit, "jobId");
+        Map<String, Job> jobs = findAllProjected(page.getItems(), Application::getJobId, jobFields, Job.class, Job::getId);
+        return page.map(app -> withJob(MapperUtil.mapToApplicationDto(app, fields), jobs.get(app.getJobId()), jobFields));
     }
 
-    /**
-     * Get applications by job seeker
-     */
-    public List<ApplicationDto> getApplicationsByJobSeeker(String jobSeekerId) {
-        List<Application> applications = applicationRepository.findByJobSeekerId(jobSeekerId);
-        return applications.stream()
-            .map(app -> {
-                ApplicationDto dto = MapperUtil.mapToApplicationDto(app);
-                Job job = jobRepository.findById(app.getJobId()).orElse(null);
-                if (job != null) {
-                    dto.setJob(MapperUtil.mapToJobDto(job));
-                }
-                return dto;
-            })
-            .collect(Collectors.toList());
+    private static ApplicationDto withJob(ApplicationDto dto, Job job, FieldSelection jobFields) {
+        if (job != null) {
+            dto.setJob(MapperUtil.mapToJobDto(job, jobFields));
+        }
+        return dto;
     }
 
     /**
-     * Get applications for a job (recruiter view)
+     * Get a page of applications for a job (recruiter view), best match first. The job is read once
+     * and returned alongside the page; the applicants come from a single aggregation that pages on
+     * (matchScore, id) and joins the job seeker fields the view needs. The job and the job seekers
+     * are included unless {@code expand} says otherwise.
      */
-    public List<ApplicationDto> getApplicationsByJob(String jobId, String recruiterId) {
-        Job job = jobRepository.findById(jobId)
-            .orElseThrow(() -> new RuntimeException("Job not found"));
+    public ApplicantPage getApplicationsByJob(String jobId, String recruiterId, FieldSelection fields,
+                                              String cursor, Integer limit) {
+        boolean expandJob = fields.expands("job", true);
+        boolean expandJobSeeker = fields.expands("jobSeeker", true);
+        FieldSelection jobFields = expandJob ? fields.nested("job") : FieldSelection.of("", null);
+
+        Job job = mongoTemplate.findOne(
+            jobFields.applyTo(new Query(Criteria.where("_id").is(jobId)), "recruiterId"), Job.class);
+        if (job == null) {
+            throw new RuntimeException("Job not found");
+        }
 
         if (!job.getRecruiterId().equals(recruiterId)) {
             throw new RuntimeException("Unauthorized to view applications for this job");
         }
 
-        List<Application> applications = applicationRepository.findByJobId(jobId);
-        return applications.stream()
-            .map(app -> {
-                ApplicationDto dto = MapperUtil.mapToApplicationDto(app);
-                dto.setJob(MapperUtil.mapToJobDto(job));
-                User jobSeeker = userRepository.findById(app.getJobSeekerId()).orElse(null);
+        FieldSelection selected = fields.nested("jobSeeker");
+        FieldSelection jobSeekerFields = selected.isAll() ? APPLICANT_FIELDS : selected;
+        List<AggregationOperation> stages = new ArrayList<>();
+        if (!fields.isAll()) {
+            stages.add(project(fields, "jobSeekerId", "matchScore"));
+        }
+        if (expandJobSeeker) {
+            stages.add(lookupById(User.class, "jobSeekerId", jobSeekerFields, "jobSeeker"));
+        }
+
+        // The cursor is taken from the stored score, which the DTO drops when matchScore is not selected
+        MongoConverter converter = mongoTemplate.getConverter();
+        CursorPage<ApplicationDto> page = keysetPager.pageAggregateByScore(Criteria.where("jobId").is(jobId),
+            Application.class, "matchScore", row -> row.application().getMatchScore(), row -> row.application().getId(),
+            document -> {
+                Application application = converter.read(Application.class, document);
+                ApplicationDto dto = MapperUtil.mapToApplicationDto(application, fields);
+                User jobSeeker = first(document, "jobSeeker", User.class, converter);
                 if (jobSeeker != null) {
-                    dto.setJobSeeker(MapperUtil.mapToUserDto(jobSeeker));
+                    dto.setJobSeeker(MapperUtil.mapToUserDto(jobSeeker, jobSeekerFields));
                 }
-                return dto;
-            })
-            .collect(Collectors.toList());
+                return new ScoredApplicant(application, dto);
+            },
+            cursor, limit, stages)
+            .map(ScoredApplicant::dto);
+
+        return ApplicantPage.builder()
+            .job(expandJob ? MapperUtil.mapToJobDto(job, jobFields) : null)
+            .items(page.getItems())
+            .nextCursor(page.getNextCursor())
+            .hasMore(page.isHasMore())
+            .build();
+    }
+
+    private CursorPage<Application> pageApplications(Criteria filter, FieldSelection fields, String cursor,
+                                                     Integer limit, String joinField) {
+        return keysetPager.page(filter, Application.class, "appliedAt",
+            Application::getAppliedAt, Application::getId, fields, cursor, limit, joinField);
+    }
+
+    /**
+     * Load the documents referenced by a page of applications with one {@code $in} query, keyed by id
+     */
+    private <T> Map<String, T> findAllProjected(List<Application> applications, Function<Application, String> refOf,
+                                                FieldSelection fields, Class<T> type, Function<T, String> idOf) {
+        Set<String> ids = new HashSet<>();
+        for (Application application : applications) {
+            String ref = refOf.apply(application);
+            if (ref != null) {
+                ids.add(ref);
+            }
+        }
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<T> found = mongoTemplate.find(fields.applyTo(new Query(Criteria.where("_id").in(ids))), type);
+        Map<String, T> byId = new HashMap<>(found.size() * 2);
+        for (T document : found) {
+            byId.put(idOf.apply(document), document);
+        }
+        return byId;
+    }
+
+    /**
+     * Page applications with their job joined server-side by a {@code $lookup}, in a single round-trip
+     */
+    private CursorPage<ApplicationWithJob> pageApplicationsWithJobs(Criteria filter, FieldSelection fields,
+                                                                    FieldSelection jobFields, String cursor,
+                                                                    Integer limit) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        if (!fields.isAll()) {
+            stages.add(project(fields, "jobId", "appliedAt"));
+        }
+        stages.add(lookupById(Job.class, "jobId", jobFields, "job"));
+
+        MongoConverter converter = mongoTemplate.getConverter();
+        return keysetPager.pageAggregate(filter, Application.class, "appliedAt",
+            joined -> joined.application().getAppliedAt(), joined -> joined.application().getId(),
+            document -> new ApplicationWithJob(converter.read(Application.class, document),
+                first(document, "job", Job.class, converter)),
+            cursor, limit, stages);
+    }
+
+    /**
+     * {@code $project} stage keeping the selected fields plus {@code required}
+     */
+    private static AggregationOperation project(FieldSelection fields, String... required) {
+        Document include = new Document();
+        fields.applyTo(new Query(), required).getFieldsObject().keySet().forEach(field -> include.append(field, 1));
+        return context -> new Document("$project", include);
+    }
+
+    /**
+     * {@code $lookup} stage joining the document of {@code type} whose id is in {@code localField},
+     * reading only the selected fields. References are stored as strings while {@code _id} is an ObjectId.
+     */
+    private AggregationOperation lookupById(Class<?> type, String localField, FieldSelection fields, String as) {
+        List<Document> pipeline = new ArrayList<>();
+        pipeline.add(new Document("$match", new Document("$expr",
+            new Document("$eq", List.of("$_id", new Document("$toObjectId", "$$ref"))))));
+        if (!fields.isAll()) {
+            Document include = new Document();
+            fields.applyTo(new Query()).getFieldsObject().keySet().forEach(field -> include.append(field, 1));
+            pipeline.add(new Document("$project", include));
+        }
+        Document lookup = new Document("from", mongoTemplate.getCollectionName(type))
+            .append("let", new Document("ref", "$" + localField))
+            .append("pipeline", pipeline)
+            .append("as", as);
+        return context -> new Document("$lookup", lookup);
+    }
+
+    /**
+     * Read the single document a {@code $lookup} put in {@code field}, or null when nothing matched
+     */
+    private static <T> T first(Document document, String field, Class<T> type, MongoConverter converter) {
+        List<Document> joined = document.getList(field, Document.class);
+        return joined == null || joined.isEmpty() ? null : converter.read(type, joined.get(0));
+    }
+
+    private record ApplicationWithJob(Application application, Job job) {
+    }
+
+    /**
+     * An applicant row as read, kept next to its mapped DTO so the page cursor sees the stored score
+     */
+    private record ScoredApplicant(Application application, ApplicationDto dto) {
     }
 
     /**
@@ -193,8 +287,15 @@ public class ApplicationService {
             throw new RuntimeException("Unauthorized to update this application");
         }
 
-        application.setStatus(status);
-        application = applicationRepository.save(application);
+        // Only the status is written, so a score landing from the scoring worker meanwhile is kept
+        application = mongoTemplate.findAndModify(
+            new Query(Criteria.where("_id").is(applicationId)),
+            new Update().set("status", status).set("updatedAt", LocalDateTime.now()),
+            FindAndModifyOptions.options().returnNew(true),
+            Application.class);
+        if (application == null) {
+            throw new RuntimeException("Application not found");
+        }
 
         ApplicationDto dto = MapperUtil.mapToApplicationDto(application);
         dto.setJob(MapperUtil.mapToJobDto(job));
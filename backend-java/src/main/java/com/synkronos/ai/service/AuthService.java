@@ -5,14 +5,15 @@ import com.synkronos.ai.dto.AuthResponse;
 import com.synkronos.ai.dto.UserDto;
 import com.synkronos.ai.entity.User;
 import com.synkronos.ai.repository.UserRepository;
+import com.synkronos.ai.security.CustomUserDetailsService;
 import com.synkronos.ai.security.JwtTokenProvider;
+import com.synkronos.ai.security.PasswordHashingExecutor;
+import com.synkronos.ai.security.RefreshTokenRevocationStore;
 import com.synkronos.ai.utils.MapperUtil;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,13 +25,14 @@ import java.util.Map;
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final JwtTokenProvider tokenProvider;
-    private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
+    private final RefreshTokenRevocationStore revocationStore;
 
     /**
      * Register a new user
@@ -43,7 +45,7 @@ public class AuthService {
 
         User user = User.builder()
             .email(request.getEmail())
-            .password(passwordEncoder.encode(request.getPassword()))
+            .password(passwordHashingExecutor.encode(request.getPassword()))
             .firstName(request.getFirstName())
             .lastName(request.getLastName())
             .role(User.UserRole.valueOf(request.getRole().toUpperCase()))
@@ -54,64 +56,106 @@ public class AuthService {
 
         user = userRepository.save(user);
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String accessToken = tokenProvider.generateAccessToken(userDetails);
-        String refreshToken = tokenProvider.generateRefreshToken(userDetails);
+        String accessToken = tokenProvider.generateAccessToken(user);
+        String refreshToken = tokenProvider.generateRefreshToken(user);
 
         return AuthResponse.builder()
             .accessToken(accessToken)
             .refreshToken(refreshToken)
-            .expiresIn(86400000L) // 24 hours
+            .expiresIn(tokenProvider.getAccessTokenExpiration())
             .user(MapperUtil.mapToUserDto(user))
             .build();
     }
 
     /**
-     * Authenticate user and generate tokens
+     * Authenticate user and generate tokens.
+     * The user is loaded once and the password is checked on the BCrypt pool;
+     * hashes made with a different cost are replaced on successful login.
      */
     public AuthResponse login(AuthRequest request) {
-        authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
 
-        User user = userRepository.findByEmail(request.getEmail())
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        String storedHash = user != null ? user.getPassword() : null;
+        if (!passwordHashingExecutor.matches(request.getPassword(), storedHash)) {
+            throw new BadCredentialsException("Bad credentials");
+        }
 
-        if (!user.getIsActive()) {
+        if (!Boolean.TRUE.equals(user.getIsActive())) {
             throw new RuntimeException("Account is deactivated");
         }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String accessToken = tokenProvider.generateAccessToken(userDetails);
-        String refreshToken = tokenProvider.generateRefreshToken(userDetails);
+        if (passwordHashingExecutor.needsRehash(storedHash)) {
+            rehashPassword(user, request.getPassword());
+        }
+
+        String accessToken = tokenProvider.generateAccessToken(user);
+        String refreshToken = tokenProvider.generateRefreshToken(user);
 
         return AuthResponse.builder()
             .accessToken(accessToken)
             .refreshToken(refreshToken)
-            .expiresIn(86400000L)
+            .expiresIn(tokenProvider.getAccessTokenExpiration())
             .user(MapperUtil.mapToUserDto(user))
             .build();
     }
 
     /**
-     * Refresh access token using refresh token
+     * Refresh access token using refresh token.
+     * The presented refresh token is revoked and a new one is issued with the
+     * access token, so each refresh token can be used exactly once.
      */
     public Map<String, String> refreshToken(String refreshToken) {
         try {
-            String email = tokenProvider.getUsernameFromToken(refreshToken);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-            
-            if (tokenProvider.validateToken(refreshToken, userDetails)) {
-                String newAccessToken = tokenProvider.generateAccessToken(userDetails);
-                Map<String, String> response = new HashMap<>();
-                response.put("accessToken", newAccessToken);
-                response.put("tokenType", "Bearer");
-                return response;
+            Claims claims = parseRefreshToken(refreshToken);
+            CustomUserDetailsService.AuthUser user = userDetailsService.loadAuthUser(claims.getSubject());
+            if (!user.isActive()) {
+                throw new RuntimeException("Account is deactivated");
             }
-            throw new RuntimeException("Invalid refresh token");
+
+            if (!revocationStore.revoke(claims.getId(), user.getId(), claims.getExpiration())) {
+                throw new RuntimeException("Refresh token has been revoked");
+            }
+
+            String newAccessToken = tokenProvider.generateAccessToken(user.getId(), user.getEmail(), user.getRole());
+            String newRefreshToken = tokenProvider.generateRefreshToken(user.getId(), user.getEmail(), user.getRole());
+            Map<String, String> response = new HashMap<>();
+            response.put("accessToken", newAccessToken);
+            response.put("refreshToken", newRefreshToken);
+            response.put("tokenType", "Bearer");
+            return response;
         } catch (Exception e) {
             throw new RuntimeException("Error refreshing token: " + e.getMessage());
         }
     }
-}
 
+    /**
+     * Revoke a refresh token (logout)
+     */
+    public void logout(String refreshToken) {
+        try {
+            Claims claims = parseRefreshToken(refreshToken);
+            revocationStore.revoke(claims.getId(), claims.get(JwtTokenProvider.CLAIM_USER_ID, String.class),
+                claims.getExpiration());
+        } catch (Exception e) {
+            throw new RuntimeException("Error revoking token: " + e.getMessage());
+        }
+    }
+
+    private Claims parseRefreshToken(String refreshToken) {
+        Claims claims = tokenProvider.parseClaims(refreshToken);
+        if (!tokenProvider.isRefreshToken(claims) || claims.getId() == null) {
+            throw new RuntimeException("Invalid refresh token");
+        }
+        return claims;
+    }
+
+    private void rehashPassword(User user, String rawPassword) {
+        try {
+            userRepository.updatePassword(user.getId(), passwordHashingExecutor.encode(rawPassword));
+            userDetailsService.evict(user.getEmail());
+        } catch (RuntimeException e) {
+            // The old hash still works, so a failed upgrade must not fail the login
+            log.warn("Could not rehash password for user {}: {}", user.getId(), e.getMessage());
+        }
+    }
+}
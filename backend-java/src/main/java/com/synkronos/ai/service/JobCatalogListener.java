@@ -0,0 +1,36 @@
+package com.synkronos.ai.service;
+
+import com.synkronos.ai.entity.Job;
+import org.springframework.core.Ordered;
+
+/**
+ * Receives job writes from {@link JobService} so in-memory views of the
+ * catalog can be kept current incrementally. All active jobs are replayed
+ * through {@link #onJobSaved} once at startup, followed by {@link #onCatalogLoaded}.
+ * <p>
+ * Listeners are called in {@code @Order}: indexes use {@link #INDEX_ORDER} and
+ * caches of results computed from them use {@link #CACHE_ORDER}, so a cache is
+ * only invalidated once every index reflects the write.
+ */
+public interface JobCatalogListener {
+
+    int INDEX_ORDER = 0;
+
+    int CACHE_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    /**
+     * A job was created or updated; implementations drop it if it is no longer active
+     */
+    void onJobSaved(Job job);
+
+    /**
+     * A job was deleted or closed
+     */
+    void onJobRemoved(String jobId);
+
+    /**
+     * The startup replay of active jobs has finished
+     */
+    default void onCatalogLoaded() {
+    }
+}
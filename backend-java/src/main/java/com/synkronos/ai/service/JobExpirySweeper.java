@@ -0,0 +1,73 @@
+package com.synkronos.ai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically closes active jobs whose {@code expiresAt} has passed, in
+ * bounded batches so one run never holds a large update or a long listener
+ * replay. Anything left over is picked up by the next run.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class JobExpirySweeper {
+
+    private final JobService jobService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jobs.expiry.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${jobs.expiry.max-batches:50}")
+    private int maxBatches;
+
+    private Counter closedCounter;
+    private Timer sweepTimer;
+
+    @PostConstruct
+    void init() {
+        closedCounter = Counter.builder("jobs.expiry.closed")
+            .description("Jobs closed by the expiry sweeper")
+            .register(meterRegistry);
+        sweepTimer = Timer.builder("jobs.expiry.sweep")
+            .description("Duration of expiry sweeper runs")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.expiry.sweep-interval-ms:300000}",
+        initialDelayString = "${jobs.expiry.initial-delay-ms:60000}")
+    public void sweep() {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        int closed = 0;
+        int batches = 0;
+        int batchClosed;
+        do {
+            batchClosed = jobService.closeExpiredJobs(now, batchSize);
+            closed += batchClosed;
+            batches++;
+        } while (batchClosed == batchSize && batches < maxBatches);
+
+        long elapsedNanos = System.nanoTime() - start;
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        sweepTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        closedCounter.increment(closed);
+        if (closed > 0) {
+            log.info("Expiry sweep closed {} jobs in {} batches ({} ms){}", closed, batches, elapsedMs,
+                batchClosed == batchSize ? ", more remain for the next run" : "");
+        } else {
+            log.debug("Expiry sweep found no expired jobs ({} ms)", elapsedMs);
+        }
+    }
+}
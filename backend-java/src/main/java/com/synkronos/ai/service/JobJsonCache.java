@@ -0,0 +1,110 @@
+package com.synkronos.ai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.synkronos.ai.dto.JobDto;
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.utils.MapperUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Full {@link JobDto}s with their JSON rendered once as UTF-8 bytes, keyed by
+ * job id and version (last modification time). Responses that contain a
+ * cached DTO copy its bytes instead of serializing it, and list responses
+ * are the cached fragments joined by Jackson. Entries are only used when
+ * their version matches the job's current one, so a stale render can never
+ * be served; writes also evict the job's entry to free the memory early.
+ * <p>
+ * Cached DTOs are shared between requests and must not be modified.
+ */
+@Component
+@Order(JobCatalogListener.CACHE_ORDER)
+@RequiredArgsConstructor
+public class JobJsonCache implements JobCatalogListener {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jobs.json-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jobs.json-cache.max-size:10000}")
+    private long maxSize;
+
+    private Cache<String, Rendered> rendered;
+
+    @PostConstruct
+    void init() {
+        rendered = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rendered, "jobs.json");
+    }
+
+    @Override
+    public void onJobSaved(Job job) {
+        rendered.invalidate(job.getId());
+    }
+
+    @Override
+    public void onJobRemoved(String jobId) {
+        rendered.invalidate(jobId);
+    }
+
+    /**
+     * Version of a job as used for cache entries and ETags; null when the job has no timestamps
+     */
+    public static LocalDateTime versionOf(Job job) {
+        return job.getUpdatedAt() != null ? job.getUpdatedAt() : job.getCreatedAt();
+    }
+
+    /**
+     * The cached DTO for the job at this version, or null
+     */
+    public JobDto get(String id, LocalDateTime version) {
+        if (!enabled || version == null) {
+            return null;
+        }
+        Rendered entry = rendered.getIfPresent(id);
+        return entry != null && entry.version().equals(version) ? entry.dto() : null;
+    }
+
+    /**
+     * Map a fully loaded job, reusing the cached DTO when it is at the same version
+     */
+    public JobDto toDto(Job job) {
+        LocalDateTime version = versionOf(job);
+        JobDto cached = get(job.getId(), version);
+        if (cached != null) {
+            return cached;
+        }
+        JobDto dto = MapperUtil.mapToJobDto(job);
+        if (!enabled || version == null) {
+            return dto;
+        }
+        try {
+            SerializedString json = new SerializedString(objectMapper.writeValueAsString(dto));
+            json.asUnquotedUTF8(); // encode now so requests only copy bytes
+            dto.setSerializedJson(json);
+        } catch (JsonProcessingException e) {
+            return dto;
+        }
+        rendered.put(job.getId(), new Rendered(version, dto));
+        return dto;
+    }
+
+    private record Rendered(LocalDateTime version, JobDto dto) {
+    }
+}
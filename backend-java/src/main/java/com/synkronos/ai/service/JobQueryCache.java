@@ -0,0 +1,107 @@
+package com.synkronos.ai.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.synkronos.ai.dto.CursorPage;
+import com.synkronos.ai.dto.JobDto;
+import com.synkronos.ai.dto.JobSearchResult;
+import com.synkronos.ai.entity.Job;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of job listing pages and search results. Every catalog
+ * write bumps a version stamp that is part of each cache key, so a write
+ * makes all earlier entries unreachable without scanning the cache; they
+ * age out through size-based eviction. The version is read before the
+ * query runs, so a result computed while a write lands is stored under the
+ * old stamp and never served. The TTL bounds how long results can still
+ * include jobs whose {@code expiresAt} passed without a write.
+ * <p>
+ * Cached values are shared between requests and must not be modified.
+ */
+@Component
+@Order(JobCatalogListener.CACHE_ORDER)
+@RequiredArgsConstructor
+public class JobQueryCache implements JobCatalogListener {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jobs.query-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jobs.query-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${jobs.query-cache.ttl:PT5M}")
+    private Duration ttl;
+
+    // Seeded from the clock so stamps keep increasing across restarts
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    private Cache<String, CursorPage<JobDto>> listings;
+    private Cache<String, JobSearchResult> searches;
+
+    @PostConstruct
+    void init() {
+        listings = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        searches = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, listings, "jobs.listings");
+        CaffeineCacheMetrics.monitor(meterRegistry, searches, "jobs.searches");
+    }
+
+    @Override
+    public void onJobSaved(Job job) {
+        version.incrementAndGet();
+    }
+
+    @Override
+    public void onJobRemoved(String jobId) {
+        version.incrementAndGet();
+    }
+
+    @Override
+    public void onCatalogLoaded() {
+        // Results computed during the replay may lack facets
+        version.incrementAndGet();
+    }
+
+    /**
+     * Current catalog version; changes on every job write
+     */
+    public long version() {
+        return version.get();
+    }
+
+    public CursorPage<JobDto> listing(String key, Supplier<CursorPage<JobDto>> loader) {
+        return get(listings, key, loader);
+    }
+
+    public JobSearchResult search(String key, Supplier<JobSearchResult> loader) {
+        return get(searches, key, loader);
+    }
+
+    private <T> T get(Cache<String, T> cache, String key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        // Concurrent misses on the same key share one load
+        return cache.get(version.get() + "|" + key, k -> loader.get());
+    }
+}
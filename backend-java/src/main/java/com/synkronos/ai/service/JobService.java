@@ -1,26 +1,111 @@
 package com.synkronos.ai.service;
 
+import com.synkronos.ai.dto.CandidateDto;
+import com.synkronos.ai.dto.CursorPage;
+import com.synkronos.ai.dto.FieldSelection;
 import com.synkronos.ai.dto.JobDto;
+import com.synkronos.ai.dto.JobFilter;
+import com.synkronos.ai.dto.JobSearchResult;
+import com.synkronos.ai.dto.SuggestionDto;
 import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.entity.User;
 import com.synkronos.ai.repository.JobRepository;
+import com.synkronos.ai.exception.ServiceBusyException;
+import com.synkronos.ai.repository.JobNormalizationCallback;
+import com.synkronos.ai.repository.KeysetPager;
+import com.synkronos.ai.repository.UserRepository;
+import com.synkronos.ai.search.CandidateIndex;
+import com.synkronos.ai.search.JobFacet;
+import com.synkronos.ai.search.JobFacetIndex;
+import com.synkronos.ai.search.JobRecommendationIndex;
+import com.synkronos.ai.search.JobSearchBackend;
+import com.synkronos.ai.search.SuggestionIndex;
 import com.synkronos.ai.utils.MapperUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for job management operations
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class JobService {
 
     private final JobRepository jobRepository;
+    private final JobSearchBackend jobSearchBackend;
+    private final JobFacetIndex jobFacetIndex;
+    private final JobRecommendationIndex jobRecommendationIndex;
+    private final CandidateIndex candidateIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final JobQueryCache jobQueryCache;
+    private final JobJsonCache jobJsonCache;
+    private final UserRepository userRepository;
+    private final KeysetPager keysetPager;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectProvider<JobCatalogListener> catalogListeners;
+
+    @Value("${search.max-results:50}")
+    private int maxSearchResults;
+
+    @Value("${search.facets.max-hits:5000}")
+    private int facetMaxHits;
+
+    @Value("${search.recommendations.max-results:20}")
+    private int maxRecommendations;
+
+    @Value("${search.suggest.max-results:10}")
+    private int maxSuggestions;
+
+    @Value("${candidates.max-results:50}")
+    private int maxCandidates;
+
+    @Value("${streaming.batch-size:500}")
+    private int streamBatchSize;
+
+    /**
+     * Replay all active jobs into the in-memory catalog views once the application is up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCatalog() {
+        long count = 0;
+        try (Stream<Job> jobs = mongoTemplate.stream(new Query(JobRepository.activeAt(LocalDateTime.now())), Job.class)) {
+            for (Job job : (Iterable<Job>) jobs::iterator) {
+                notifySaved(job);
+                count++;
+            }
+        }
+        catalogListeners.orderedStream().forEach(JobCatalogListener::onCatalogLoaded);
+        log.info("Loaded {} active jobs into catalog listeners", count);
+    }
 
     /**
      * Create a new job posting
@@ -45,6 +130,7 @@ public class JobService {
             .build();
 
         job = jobRepository.save(job);
+        notifySaved(job);
         return MapperUtil.mapToJobDto(job);
     }
 
@@ -58,35 +144,273 @@ public class JobService {
     }
 
     /**
-     * Get all active jobs
+     * Get job by ID, reading only the selected fields
      */
-    public List<JobDto> getAllActiveJobs() {
-        return jobRepository.findByStatus(Job.JobStatus.ACTIVE)
-            .stream()
-            .map(MapperUtil::mapToJobDto)
-            .collect(Collectors.toList());
+    public JobDto getJobById(String id, FieldSelection fields) {
+        if (fields.isAll()) {
+            return getJobById(id);
+        }
+        Query query = fields.applyTo(new Query(Criteria.where("_id").is(id)));
+        Job job = mongoTemplate.findOne(query, Job.class);
+        if (job == null) {
+            throw new RuntimeException("Job not found with id: " + id);
+        }
+        return MapperUtil.mapToJobDto(job, fields);
     }
 
     /**
-     * Search jobs
+     * Current version of a job (its last modification time), from a lookup of its timestamps only
      */
-    public List<JobDto> searchJobs(String searchTerm) {
-        return jobRepository.searchActiveJobs(searchTerm)
-            .stream()
-            .map(MapperUtil::mapToJobDto)
-            .collect(Collectors.toList());
+    public LocalDateTime getJobVersion(String id) {
+        Query query = new Query(Criteria.where("_id").is(id));
+        query.fields().include("updatedAt", "createdAt");
+        Job job = mongoTemplate.findOne(query, Job.class);
+        if (job == null) {
+            throw new RuntimeException("Job not found with id: " + id);
+        }
+        return JobJsonCache.versionOf(job);
+    }
+
+    /**
+     * Get job by ID at a known version, served from the rendered-JSON cache when it holds that version
+     */
+    public JobDto getJobById(String id, FieldSelection fields, LocalDateTime version) {
+        if (!fields.isAll()) {
+            return getJobById(id, fields);
+        }
+        JobDto cached = jobJsonCache.get(id, version);
+        if (cached != null) {
+            return cached;
+        }
+        Job job = jobRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Job not found with id: " + id));
+        return jobJsonCache.toDto(job);
+    }
+
+    /**
+     * ETag for a page of active jobs; changes with every job write and differs per
+     * filter, field selection, cursor and limit, as the listing cache key does
+     */
+    public String getListingEtag(JobFilter filter, FieldSelection fields, String cursor, Integer limit) {
+        return catalogEtag("jobs", listingCacheKey(filter, fields, cursor, limit));
+    }
+
+    /**
+     * ETag for a page of a recruiter's jobs; changes with every job write and differs
+     * per field selection, cursor and limit
+     */
+    public String getRecruiterJobsEtag(String recruiterId, FieldSelection fields, String cursor, Integer limit) {
+        return catalogEtag("recruiter-" + recruiterId, pageKey(fields, cursor, limit));
+    }
+
+    private String catalogEtag(String scope, String requestKey) {
+        return scope + "-v" + jobQueryCache.version() + "-" + Integer.toHexString(requestKey.hashCode());
+    }
+
+    /**
+     * Get a page of active jobs matching the filters, newest first
+     */
+    public CursorPage<JobDto> getAllActiveJobs(JobFilter filter, FieldSelection fields, String cursor, Integer limit) {
+        return jobQueryCache.listing(listingCacheKey(filter, fields, cursor, limit),
+            () -> pageJobs(toCriteria(filter), fields, cursor, limit));
+    }
+
+    private static String listingCacheKey(JobFilter filter, FieldSelection fields, String cursor, Integer limit) {
+        return String.join("|", listingKey(filter), pageKey(fields, cursor, limit));
+    }
+
+    private static String pageKey(FieldSelection fields, String cursor, Integer limit) {
+        return String.join("|", fields.cacheKey(), String.valueOf(cursor), String.valueOf(limit));
+    }
+
+    /**
+     * Filter values as {@link #toCriteria} interprets them, so equivalent requests share a cache entry
+     */
+    private static String listingKey(JobFilter filter) {
+        return String.join("|",
+            upper(filter.getEmploymentType()),
+            upper(filter.getEducationLevel()),
+            String.valueOf(JobNormalizationCallback.locationKey(filter.getLocation())),
+            filter.getSalaryMin() == null ? "" : filter.getSalaryMin().stripTrailingZeros().toPlainString(),
+            filter.getSalaryMax() == null ? "" : filter.getSalaryMax().stripTrailingZeros().toPlainString(),
+            filter.getSalaryMin() == null && filter.getSalaryMax() == null ? "" : upper(filter.getCurrency()),
+            String.valueOf(filter.getMaxExperience()));
+    }
+
+    private static String upper(String value) {
+        return StringUtils.hasText(value) ? value.trim().toUpperCase(Locale.ROOT) : "";
+    }
+
+    private Criteria toCriteria(JobFilter filter) {
+        Criteria criteria = JobRepository.activeAt(LocalDateTime.now());
+        if (StringUtils.hasText(filter.getEmploymentType())) {
+            criteria.and("employmentType").is(filter.getEmploymentType().trim().toUpperCase(Locale.ROOT));
+        }
+        if (StringUtils.hasText(filter.getEducationLevel())) {
+            criteria.and("educationLevel").is(filter.getEducationLevel().trim().toUpperCase(Locale.ROOT));
+        }
+        String locationKey = JobNormalizationCallback.locationKey(filter.getLocation());
+        if (locationKey != null) {
+            criteria.and("locationKey").is(locationKey);
+        }
+        if (filter.getSalaryMin() != null || filter.getSalaryMax() != null) {
+            String currency = StringUtils.hasText(filter.getCurrency())
+                ? filter.getCurrency().trim().toUpperCase(Locale.ROOT) : "USD";
+            criteria.and("currency").is(currency);
+            // Ranges overlap when the job's max is above the wanted min and its min is below the wanted max
+            if (filter.getSalaryMin() != null) {
+                criteria.and("maxSalaryMinor").gte(JobNormalizationCallback.toMinorUnits(filter.getSalaryMin(), currency));
+            }
+            if (filter.getSalaryMax() != null) {
+                criteria.and("minSalaryMinor").lte(JobNormalizationCallback.toMinorUnits(filter.getSalaryMax(), currency));
+            }
+        }
+        if (filter.getMaxExperience() != null) {
+            // $not/$gt also matches jobs that state no minimum
+            criteria.and("minYearsOfExperience").not().gt(filter.getMaxExperience());
+        }
+        return criteria;
     }
 
     /**
-     * Get jobs by recruiter
+     * Stream all active jobs, newest first, from a Mongo cursor. The caller must close the stream.
      */
-    public List<JobDto> getJobsByRecruiter(String recruiterId) {
-        return jobRepository.findByRecruiterId(recruiterId)
+    public Stream<JobDto> streamAllActiveJobs(FieldSelection fields) {
+        Query query = new Query(JobRepository.activeAt(LocalDateTime.now()))
+            .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+            .cursorBatchSize(streamBatchSize);
+        return mongoTemplate.stream(fields.applyTo(query), Job.class).map(job -> MapperUtil.mapToJobDto(job, fields));
+    }
+
+    /**
+     * Search jobs, ranked by relevance, narrowed by facet filters and with facet counts over the
+     * best {@code search.facets.max-hits} matches
+     */
+    public JobSearchResult searchJobs(String searchTerm, Map<JobFacet, Set<String>> filters) {
+        StringBuilder key = new StringBuilder(searchTerm.trim().toLowerCase(Locale.ROOT));
+        new TreeMap<>(filters).forEach((facet, values) -> {
+            Set<String> normalized = new TreeSet<>();
+            values.forEach(value -> normalized.add(value.trim().toLowerCase(Locale.ROOT)));
+            key.append('|').append(facet.getParam()).append(normalized);
+        });
+        return jobQueryCache.search(key.toString(), () -> runSearch(searchTerm, filters));
+    }
+
+    private JobSearchResult runSearch(String searchTerm, Map<JobFacet, Set<String>> filters) {
+        List<String> hits = jobSearchBackend.search(searchTerm, facetMaxHits);
+
+        if (!jobFacetIndex.isReady()) {
+            List<String> ids = hits.subList(0, Math.min(hits.size(), maxSearchResults));
+            return new JobSearchResult(findAllInOrder(ids), hits.size(), Map.of());
+        }
+
+        JobFacetIndex.FacetedHits faceted = jobFacetIndex.filter(hits, filters, maxSearchResults);
+        Map<String, List<JobSearchResult.FacetCount>> facets = new LinkedHashMap<>();
+        faceted.getCounts().forEach((facet, counts) -> facets.put(facet.getParam(), counts));
+        return new JobSearchResult(findAllInOrder(faceted.getIds()), faceted.getTotal(), facets);
+    }
+
+    private List<JobDto> findAllInOrder(List<String> ids) {
+        Map<String, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        return jobRepository.findAllById(ids)
             .stream()
-            .map(MapperUtil::mapToJobDto)
+            .sorted(Comparator.comparingInt(job -> rank.get(job.getId())))
+            .map(jobJsonCache::toDto)
             .collect(Collectors.toList());
     }
 
+    /**
+     * Suggest job titles, companies and skills starting with the prefix, most frequent first
+     */
+    public List<SuggestionDto> suggest(String prefix, Integer limit) {
+        int k = limit == null ? maxSuggestions : Math.max(1, Math.min(limit, maxSuggestions));
+        return suggestionIndex.suggest(prefix, k);
+    }
+
+    /**
+     * Recommend active jobs for a job seeker by skill overlap and experience fit, best first
+     */
+    public List<JobDto> getRecommendedJobs(String userId, Integer limit) {
+        Query query = new Query(Criteria.where("_id").is(userId));
+        query.fields().include("skills", "yearsOfExperience");
+        User user = mongoTemplate.findOne(query, User.class);
+        if (user == null) {
+            throw new RuntimeException("User not found with id: " + userId);
+        }
+        if (user.getSkills() == null || user.getSkills().isEmpty()) {
+            return List.of();
+        }
+
+        int k = limit == null ? maxRecommendations : Math.max(1, Math.min(limit, maxRecommendations));
+        if (!jobRecommendationIndex.isReady()) {
+            return jobRepository.findActiveJobsBySkills(new ArrayList<>(user.getSkills()), LocalDateTime.now())
+                .stream()
+                .limit(k)
+                .map(jobJsonCache::toDto)
+                .collect(Collectors.toList());
+        }
+        return findAllInOrder(jobRecommendationIndex.recommend(user.getSkills(), user.getYearsOfExperience(), k));
+    }
+
+    /**
+     * Rank active job seekers against a job's required skills, experience and location (recruiter view)
+     */
+    public List<CandidateDto> getCandidates(String jobId, String recruiterId, Integer limit) {
+        Job job = jobRepository.findById(jobId)
+            .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
+
+        if (!job.getRecruiterId().equals(recruiterId)) {
+            throw new RuntimeException("Unauthorized to view candidates for this job");
+        }
+        if (!candidateIndex.isReady()) {
+            throw new ServiceBusyException("Candidate index is still loading");
+        }
+
+        int k = limit == null ? maxCandidates : Math.max(1, Math.min(limit, maxCandidates));
+        Map<String, Float> ranked = candidateIndex.topCandidates(
+            job.getRequiredSkills(), job.getMinYearsOfExperience(), job.getLocation(), k);
+
+        Set<String> required = new HashSet<>();
+        if (job.getRequiredSkills() != null) {
+            job.getRequiredSkills().forEach(skill -> required.add(skill.trim().toLowerCase(Locale.ROOT)));
+        }
+        Map<String, User> users = new HashMap<>();
+        userRepository.findAllById(ranked.keySet()).forEach(user -> users.put(user.getId(), user));
+
+        List<CandidateDto> candidates = new ArrayList<>(ranked.size());
+        ranked.forEach((userId, score) -> {
+            User user = users.get(userId);
+            if (user == null) {
+                return;
+            }
+            Set<String> matched = new LinkedHashSet<>();
+            if (user.getSkills() != null) {
+                for (String skill : user.getSkills()) {
+                    if (required.contains(skill.trim().toLowerCase(Locale.ROOT))) {
+                        matched.add(skill);
+                    }
+                }
+            }
+            candidates.add(new CandidateDto(MapperUtil.mapToUserDto(user), score, matched));
+        });
+        return candidates;
+    }
+
+    /**
+     * Get a page of jobs by recruiter, newest first
+     */
+    public CursorPage<JobDto> getJobsByRecruiter(String recruiterId, FieldSelection fields, String cursor, Integer limit) {
+        return pageJobs(Criteria.where("recruiterId").is(recruiterId), fields, cursor, limit);
+    }
+
+    private CursorPage<JobDto> pageJobs(Criteria filter, FieldSelection fields, String cursor, Integer limit) {
+        return keysetPager.page(filter, Job.class, "createdAt", Job::getCreatedAt, Job::getId, fields, cursor, limit)
+            .map(job -> fields.isAll() ? jobJsonCache.toDto(job) : MapperUtil.mapToJobDto(job, fields));
+    }
+
     /**
      * Update job
      */
@@ -109,8 +433,15 @@ public class JobService {
         if (jobDto.getMinYearsOfExperience() != null) job.setMinYearsOfExperience(jobDto.getMinYearsOfExperience());
         if (jobDto.getEducationLevel() != null) job.setEducationLevel(jobDto.getEducationLevel());
         if (jobDto.getStatus() != null) job.setStatus(jobDto.getStatus());
+        // Reopening a job whose expiry has passed starts a new term, as posting does;
+        // otherwise it would be ACTIVE yet hidden everywhere and closed again by the sweep
+        if (jobDto.getStatus() == Job.JobStatus.ACTIVE && job.getExpiresAt() != null
+                && !job.getExpiresAt().isAfter(LocalDateTime.now())) {
+            job.setExpiresAt(LocalDateTime.now().plusMonths(3));
+        }
 
         job = jobRepository.save(job);
+        notifySaved(job);
         return MapperUtil.mapToJobDto(job);
     }
 
@@ -127,6 +458,63 @@ public class JobService {
         }
 
         jobRepository.delete(job);
+        notifyRemoved(id);
+    }
+
+    /**
+     * Close up to {@code batchSize} active jobs that expired at or before {@code now}, oldest expiry first,
+     * and drop them from the catalog views. Returns the number of jobs this call closed.
+     */
+    public int closeExpiredJobs(LocalDateTime now, int batchSize) {
+        Query expired = new Query(Criteria.where("status").is(Job.JobStatus.ACTIVE).and("expiresAt").lte(now))
+            .with(Sort.by(Sort.Direction.ASC, "expiresAt"))
+            .limit(batchSize);
+        expired.fields().include("_id");
+        List<String> ids = mongoTemplate.find(expired, Job.class).stream()
+            .map(Job::getId)
+            .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // Re-check status and expiry so a job reopened or extended since the read is left alone
+        long modified = mongoTemplate.updateMulti(
+            new Query(Criteria.where("_id").in(ids).and("status").is(Job.JobStatus.ACTIVE).and("expiresAt").lte(now)),
+            new Update().set("status", Job.JobStatus.CLOSED).set("updatedAt", now),
+            Job.class).getModifiedCount();
+        if (modified == 0) {
+            return 0;
+        }
+
+        // Only the jobs this update closed carry its timestamp; skipped ones must stay in the views
+        Query closedNow = new Query(Criteria.where("_id").in(ids)
+            .and("status").is(Job.JobStatus.CLOSED).and("updatedAt").is(now));
+        closedNow.fields().include("_id");
+        List<String> closed = mongoTemplate.find(closedNow, Job.class).stream()
+            .map(Job::getId)
+            .collect(Collectors.toList());
+        closed.forEach(this::notifyRemoved);
+        return closed.size();
+    }
+
+    private void notifySaved(Job job) {
+        catalogListeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onJobSaved(job);
+            } catch (RuntimeException e) {
+                log.error("Catalog listener {} failed for job {}", listener.getClass().getSimpleName(), job.getId(), e);
+            }
+        });
+    }
+
+    private void notifyRemoved(String jobId) {
+        catalogListeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onJobRemoved(jobId);
+            } catch (RuntimeException e) {
+                log.error("Catalog listener {} failed for job {}", listener.getClass().getSimpleName(), jobId, e);
+            }
+        });
     }
 }
 
@@ -0,0 +1,257 @@
+package com.synkronos.ai.service;
+
+import com.synkronos.ai.dto.MatchScoreBatchRequest;
+import com.synkronos.ai.dto.MatchScoreBatchResponse;
+import com.synkronos.ai.dto.MatchScoreRequest;
+import com.synkronos.ai.dto.MatchScoreResponse;
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.entity.User;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Client for the ML engine's match scoring endpoints. Failures (including
+ * timeouts) are thrown to the caller, which decides whether to retry.
+ * <p>
+ * With batching enabled, concurrent requests are collected for up to
+ * {@code window-ms} after the first one (or until {@code max-size} are
+ * waiting) and sent as one {@code /predict-score-batch} call; each caller's
+ * future is completed with its own result. A lone request goes to
+ * {@code /predict-score}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchScoringClient {
+
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ml.service.url:http://ml-engine:5000}")
+    private String mlServiceUrl;
+
+    @Value("${ml.service.connect-timeout:PT2S}")
+    private Duration connectTimeout;
+
+    @Value("${ml.service.read-timeout:PT10S}")
+    private Duration readTimeout;
+
+    @Value("${ml.batch.enabled:true}")
+    private boolean batchEnabled;
+
+    @Value("${ml.batch.window-ms:5}")
+    private long windowMs;
+
+    @Value("${ml.batch.max-size:32}")
+    private int maxBatchSize;
+
+    @Value("${ml.batch.senders:4}")
+    private int senders;
+
+    private final BlockingQueue<PendingScore> pending = new LinkedBlockingQueue<>();
+    private Thread collector;
+    private ThreadPoolExecutor sender;
+    private DistributionSummary batchSizes;
+
+    @PostConstruct
+    void init() {
+        if (!batchEnabled) {
+            return;
+        }
+        batchSizes = DistributionSummary.builder("ml.scoring.batch.size")
+            .description("Requests per call to the ML engine")
+            .register(meterRegistry);
+        AtomicInteger threadCount = new AtomicInteger();
+        // Unbounded queue: pending work is already bounded by the callers waiting on it
+        sender = new ThreadPoolExecutor(senders, senders, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "ml-batch-sender-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        collector = new Thread(this::collect, "ml-batch-collector");
+        collector.setDaemon(true);
+        collector.start();
+        log.info("ML scoring batches up to {} requests within {} ms, {} senders", maxBatchSize, windowMs, senders);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (collector != null) {
+            collector.interrupt();
+            sender.shutdown();
+            List<PendingScore> abandoned = new ArrayList<>();
+            pending.drainTo(abandoned);
+            abandoned.forEach(score -> score.future().completeExceptionally(
+                new IllegalStateException("ML scoring client is shutting down")));
+        }
+    }
+
+    /**
+     * Score a job seeker's profile against a job, waiting for the result at most as
+     * long as the batch window plus one HTTP call's connect and read timeouts
+     */
+    public MatchScoreResponse score(User jobSeeker, Job job) {
+        MatchScoreRequest request = toRequest(jobSeeker, job);
+        if (!batchEnabled) {
+            return scoreOne(request);
+        }
+        long timeoutMs = windowMs + connectTimeout.toMillis() + readTimeout.toMillis();
+        try {
+            return scoreAsync(request).get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("No response from the ML service within " + timeoutMs + " ms", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the ML service", e);
+        }
+    }
+
+    /**
+     * Queue a request for the next batch; the future completes when that batch returns
+     */
+    public CompletableFuture<MatchScoreResponse> scoreAsync(MatchScoreRequest request) {
+        if (!batchEnabled) {
+            return CompletableFuture.supplyAsync(() -> scoreOne(request));
+        }
+        CompletableFuture<MatchScoreResponse> future = new CompletableFuture<>();
+        pending.add(new PendingScore(request, future));
+        return future;
+    }
+
+    private void collect() {
+        long windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<PendingScore> batch = new ArrayList<>(maxBatchSize);
+                batch.add(pending.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    PendingScore next = pending.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                try {
+                    sender.execute(() -> send(batch));
+                } catch (RejectedExecutionException e) {
+                    // The sender is shut down; fail the batch instead of leaving its callers waiting
+                    batch.forEach(score -> score.future().completeExceptionally(
+                        new IllegalStateException("ML scoring client is shutting down", e)));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void send(List<PendingScore> batch) {
+        batchSizes.record(batch.size());
+        try {
+            if (batch.size() == 1) {
+                complete(batch.get(0), post("/predict-score", batch.get(0).request(), MatchScoreResponse.class));
+                return;
+            }
+            List<MatchScoreRequest> requests = new ArrayList<>(batch.size());
+            batch.forEach(score -> requests.add(score.request()));
+            MatchScoreBatchResponse response = post("/predict-score-batch",
+                new MatchScoreBatchRequest(requests), MatchScoreBatchResponse.class);
+            List<MatchScoreResponse> results = response != null ? response.getResults() : null;
+            if (results == null || results.size() != batch.size()) {
+                throw new IllegalStateException("ML service returned " + (results == null ? "no" : results.size())
+                    + " results for a batch of " + batch.size());
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i), results.get(i));
+            }
+        } catch (Exception e) {
+            batch.forEach(score -> score.future().completeExceptionally(e));
+        }
+    }
+
+    private static void complete(PendingScore score, MatchScoreResponse response) {
+        try {
+            score.future().complete(checked(response));
+        } catch (IllegalStateException e) {
+            score.future().completeExceptionally(e);
+        }
+    }
+
+    private MatchScoreResponse scoreOne(MatchScoreRequest request) {
+        return checked(post("/predict-score", request, MatchScoreResponse.class));
+    }
+
+    private <T> T post(String path, Object body, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.postForObject(mlServiceUrl + path, new HttpEntity<>(body, headers), responseType);
+    }
+
+    private static MatchScoreResponse checked(MatchScoreResponse response) {
+        if (response == null || response.getOverallScore() == null) {
+            throw new IllegalStateException(response != null && response.getError() != null
+                ? "ML service could not score: " + response.getError()
+                : "ML service returned no score");
+        }
+        return response;
+    }
+
+    /**
+     * Build the scoring request, with resume text assembled from the user profile
+     */
+    public static MatchScoreRequest toRequest(User jobSeeker, Job job) {
+        StringBuilder resumeText = new StringBuilder();
+        if (jobSeeker.getFirstName() != null) resumeText.append(jobSeeker.getFirstName()).append(" ");
+        if (jobSeeker.getLastName() != null) resumeText.append(jobSeeker.getLastName()).append("\n");
+        if (jobSeeker.getCurrentPosition() != null) resumeText.append(jobSeeker.getCurrentPosition()).append("\n");
+        if (jobSeeker.getBio() != null) resumeText.append(jobSeeker.getBio()).append("\n");
+        if (jobSeeker.getYearsOfExperience() != null) {
+            resumeText.append(jobSeeker.getYearsOfExperience()).append(" years of experience\n");
+        }
+        if (jobSeeker.getSkills() != null && !jobSeeker.getSkills().isEmpty()) {
+            resumeText.append("Skills: ").append(String.join(", ", jobSeeker.getSkills())).append("\n");
+        }
+        if (jobSeeker.getResumeUrl() != null) {
+            resumeText.append("Resume available at: ").append(jobSeeker.getResumeUrl());
+        }
+
+        return MatchScoreRequest.builder()
+            .resumeText(resumeText.toString())
+            .jobRequiredSkills(job.getRequiredSkills())
+            .jobMinYearsOfExperience(job.getMinYearsOfExperience())
+            .jobDescription(job.getDescription())
+            .build();
+    }
+
+    /**
+     * A request waiting for its batch, and the caller's future
+     */
+    private record PendingScore(MatchScoreRequest request, CompletableFuture<MatchScoreResponse> future) {
+    }
+}
@@ -0,0 +1,242 @@
+package com.synkronos.ai.service;
+
+import com.synkronos.ai.dto.MatchScoreResponse;
+import com.synkronos.ai.entity.Application;
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.entity.User;
+import com.synkronos.ai.repository.JobRepository;
+import com.synkronos.ai.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scores applications against the ML engine off the request path. New
+ * applications are saved PENDING and handed to a bounded worker pool; a
+ * worker calls the engine and writes the score back with a targeted update.
+ * <p>
+ * {@code nextScoringAt} doubles as a lease and a retry schedule: it is pushed
+ * forward when a task is queued, and on failure it is set to an exponential
+ * backoff until {@code max-attempts} is reached, after which the application
+ * is marked FAILED. A periodic sweep re-queues PENDING applications whose
+ * time has come, which covers retries, a full queue and restarts alike.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchScoringWorker {
+
+    private final MongoTemplate mongoTemplate;
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final MatchScoringClient matchScoringClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${applications.scoring.threads:16}")
+    private int threads;
+
+    @Value("${applications.scoring.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${applications.scoring.lease:PT2M}")
+    private Duration lease;
+
+    @Value("${applications.scoring.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${applications.scoring.retry-backoff:PT30S}")
+    private Duration retryBackoff;
+
+    @Value("${applications.scoring.max-backoff:PT30M}")
+    private Duration maxBackoff;
+
+    @Value("${applications.scoring.batch-size:200}")
+    private int batchSize;
+
+    private ThreadPoolExecutor executor;
+    private final AtomicInteger due = new AtomicInteger();
+    private Counter scoredCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+    private Counter rejectedCounter;
+    private Timer scoringTimer;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "match-scoring-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("applications.scoring.queue.size", executor, e -> e.getQueue().size())
+            .description("Scoring tasks waiting for a worker")
+            .register(meterRegistry);
+        Gauge.builder("applications.scoring.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Scoring tasks in progress")
+            .register(meterRegistry);
+        Gauge.builder("applications.scoring.due", due, AtomicInteger::get)
+            .description("PENDING applications found due by the last sweep")
+            .register(meterRegistry);
+        scoredCounter = result("scored");
+        retriedCounter = result("retried");
+        failedCounter = result("failed");
+        rejectedCounter = result("rejected");
+        scoringTimer = Timer.builder("applications.scoring.latency")
+            .description("ML engine scoring calls")
+            .register(meterRegistry);
+        log.info("Match scoring pool started with {} threads, queue capacity {}", threads, queueCapacity);
+    }
+
+    private Counter result(String result) {
+        return Counter.builder("applications.scoring.results")
+            .description("Scoring attempts by outcome")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Mark a new application as waiting for its score, leased to the task about to be queued
+     */
+    public void markPending(Application application) {
+        application.setScoringState(Application.ScoringState.PENDING);
+        application.setScoringAttempts(0);
+        application.setNextScoringAt(LocalDateTime.now().plus(lease));
+    }
+
+    /**
+     * Queue an application for scoring. When the queue is full the task is dropped
+     * and the sweep picks the application up once its lease expires.
+     */
+    public void enqueue(String applicationId) {
+        try {
+            executor.execute(() -> score(applicationId));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.debug("Scoring queue full, application {} left for the sweep", applicationId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${applications.scoring.sweep-interval-ms:30000}",
+        initialDelayString = "${applications.scoring.initial-delay-ms:30000}")
+    public void sweep() {
+        int capacity = Math.min(batchSize, executor.getQueue().remainingCapacity());
+        if (capacity == 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Query dueQuery = new Query(duePending(now))
+            .with(Sort.by(Sort.Direction.ASC, "nextScoringAt"))
+            .limit(capacity);
+        dueQuery.fields().include("_id");
+        List<Application> found = mongoTemplate.find(dueQuery, Application.class);
+        due.set(found.size());
+
+        int queued = 0;
+        for (Application application : found) {
+            // Take the lease first so another instance's sweep does not queue the same application
+            Update claim = new Update().set("nextScoringAt", now.plus(lease));
+            Query owned = new Query(Criteria.where("_id").is(application.getId()).andOperator(duePending(now)));
+            if (mongoTemplate.updateFirst(owned, claim, Application.class).getModifiedCount() > 0) {
+                enqueue(application.getId());
+                queued++;
+            }
+        }
+        if (queued > 0) {
+            log.info("Scoring sweep queued {} pending applications", queued);
+        }
+    }
+
+    private static Criteria duePending(LocalDateTime now) {
+        return Criteria.where("scoringState").is(Application.ScoringState.PENDING).and("nextScoringAt").lte(now);
+    }
+
+    private void score(String applicationId) {
+        Query pending = new Query(Criteria.where("_id").is(applicationId)
+            .and("scoringState").is(Application.ScoringState.PENDING));
+        pending.fields().include("jobId", "jobSeekerId", "scoringAttempts");
+        Application application = mongoTemplate.findOne(pending, Application.class);
+        if (application == null) {
+            return;
+        }
+
+        Job job = jobRepository.findById(application.getJobId()).orElse(null);
+        User jobSeeker = userRepository.findById(application.getJobSeekerId()).orElse(null);
+        if (job == null || jobSeeker == null) {
+            log.warn("Application {} references a missing job or job seeker, not scoring it", applicationId);
+            finish(pending, new Update().set("scoringState", Application.ScoringState.FAILED), failedCounter);
+            return;
+        }
+
+        try {
+            MatchScoreResponse response = scoringTimer.recordCallable(() -> matchScoringClient.score(jobSeeker, job));
+            finish(pending, new Update()
+                .set("matchScore", response.getOverallScore())
+                .set("matchBreakdown", objectMapper.writeValueAsString(response.getBreakdown()))
+                .set("scoringState", Application.ScoringState.SCORED), scoredCounter);
+        } catch (Exception e) {
+            int attempts = (application.getScoringAttempts() != null ? application.getScoringAttempts() : 0) + 1;
+            if (attempts >= maxAttempts) {
+                log.error("Scoring application {} failed after {} attempts: {}", applicationId, attempts, e.getMessage());
+                finish(pending, new Update()
+                    .set("scoringAttempts", attempts)
+                    .set("scoringState", Application.ScoringState.FAILED), failedCounter);
+            } else {
+                Duration backoff = backoff(attempts);
+                log.warn("Scoring application {} failed (attempt {}), retrying in {}: {}",
+                    applicationId, attempts, backoff, e.getMessage());
+                mongoTemplate.updateFirst(pending, new Update()
+                    .set("scoringAttempts", attempts)
+                    .set("nextScoringAt", LocalDateTime.now().plus(backoff)), Application.class);
+                retriedCounter.increment();
+            }
+        }
+    }
+
+    private void finish(Query pending, Update update, Counter outcome) {
+        update.unset("nextScoringAt").set("updatedAt", LocalDateTime.now());
+        mongoTemplate.updateFirst(pending, update, Application.class);
+        outcome.increment();
+    }
+
+    /**
+     * {@code retry-backoff} doubled for every further attempt, capped at {@code max-backoff}
+     */
+    private Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
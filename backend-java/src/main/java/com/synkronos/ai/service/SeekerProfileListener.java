@@ -0,0 +1,23 @@
+package com.synkronos.ai.service;
+
+import com.synkronos.ai.entity.User;
+
+/**
+ * Receives job seeker profile writes from {@link UserService} so in-memory
+ * views of seekers can be kept current incrementally. All active job seekers
+ * are replayed through {@link #onSeekerSaved} once at startup, followed by
+ * {@link #onSeekersLoaded}.
+ */
+public interface SeekerProfileListener {
+
+    /**
+     * A seeker profile was updated; implementations drop the user if it is no longer an active job seeker
+     */
+    void onSeekerSaved(User user);
+
+    /**
+     * The startup replay of active job seekers has finished
+     */
+    default void onSeekersLoaded() {
+    }
+}
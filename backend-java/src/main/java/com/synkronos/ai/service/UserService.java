@@ -1,25 +1,65 @@
 package com.synkronos.ai.service;
 
+import com.synkronos.ai.dto.CursorPage;
+import com.synkronos.ai.dto.FieldSelection;
 import com.synkronos.ai.dto.UserDto;
 import com.synkronos.ai.entity.User;
+import com.synkronos.ai.repository.KeysetPager;
 import com.synkronos.ai.repository.UserRepository;
+import com.synkronos.ai.security.CustomUserDetailsService;
+import com.synkronos.ai.utils.ConditionalGetUtil;
 import com.synkronos.ai.utils.MapperUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 
 /**
  * Service for user management operations
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class UserService {
 
     private final UserRepository userRepository;
+    private final CustomUserDetailsService userDetailsService;
+    private final KeysetPager keysetPager;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectProvider<SeekerProfileListener> seekerListeners;
+
+    @Value("${streaming.batch-size:500}")
+    private int streamBatchSize;
+
+    /**
+     * Replay all job seeker profiles into the in-memory seeker views once the application is up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSeekers() {
+        Query query = new Query(Criteria.where("role").is(User.UserRole.JOB_SEEKER)).cursorBatchSize(streamBatchSize);
+        query.fields().include("role", "isActive", "skills", "yearsOfExperience", "location");
+        long count = 0;
+        try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+            for (User user : (Iterable<User>) users::iterator) {
+                notifySeekerSaved(user);
+                count++;
+            }
+        }
+        seekerListeners.orderedStream().forEach(SeekerProfileListener::onSeekersLoaded);
+        log.info("Loaded {} job seekers into seeker listeners", count);
+    }
 
     /**
      * Get user by ID
@@ -30,6 +70,34 @@ public class UserService {
         return MapperUtil.mapToUserDto(user);
     }
 
+    /**
+     * ETag of a user profile, from a lookup of its timestamps only
+     */
+    public String getUserEtag(String id, FieldSelection fields) {
+        Query query = new Query(Criteria.where("_id").is(id));
+        query.fields().include("updatedAt", "createdAt");
+        User user = mongoTemplate.findOne(query, User.class);
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found with id: " + id);
+        }
+        return ConditionalGetUtil.entityTag(id, user.getUpdatedAt() != null ? user.getUpdatedAt() : user.getCreatedAt(), fields);
+    }
+
+    /**
+     * Get user by ID, reading only the selected fields
+     */
+    public UserDto getUserById(String id, FieldSelection fields) {
+        if (fields.isAll()) {
+            return getUserById(id);
+        }
+        Query query = fields.applyTo(new Query(Criteria.where("_id").is(id)));
+        User user = mongoTemplate.findOne(query, User.class);
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found with id: " + id);
+        }
+        return MapperUtil.mapToUserDto(user, fields);
+    }
+
     /**
      * Get user by email
      */
@@ -59,6 +127,8 @@ public class UserService {
         if (userDto.getCompanyWebsite() != null) user.setCompanyWebsite(userDto.getCompanyWebsite());
 
         user = userRepository.save(user);
+        userDetailsService.evict(user.getEmail());
+        notifySeekerSaved(user);
         return MapperUtil.mapToUserDto(user);
     }
 
@@ -71,17 +141,50 @@ public class UserService {
             .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
         user.setResumeUrl(resumeUrl);
         user = userRepository.save(user);
+        userDetailsService.evict(user.getEmail());
+        return MapperUtil.mapToUserDto(user);
+    }
+
+    /**
+     * Deactivate a user account
+     */
+    @Transactional
+    public UserDto deactivateUser(String id) {
+        User user = userRepository.findById(id)
+            .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
+        user.setIsActive(false);
+        user = userRepository.save(user);
+        userDetailsService.evict(user.getEmail());
+        notifySeekerSaved(user);
         return MapperUtil.mapToUserDto(user);
     }
 
     /**
-     * Get all job seekers
+     * Get a page of job seekers, newest first
      */
-    public List<UserDto> getAllJobSeekers() {
-        return userRepository.findByRole(User.UserRole.JOB_SEEKER)
-            .stream()
-            .map(MapperUtil::mapToUserDto)
-            .collect(Collectors.toList());
+    public CursorPage<UserDto> getAllJobSeekers(FieldSelection fields, String cursor, Integer limit) {
+        return keysetPager.page(Criteria.where("role").is(User.UserRole.JOB_SEEKER), User.class, "createdAt",
+                User::getCreatedAt, User::getId, fields, cursor, limit)
+            .map(user -> MapperUtil.mapToUserDto(user, fields));
     }
-}
 
+    /**
+     * Stream all job seekers, newest first, from a Mongo cursor. The caller must close the stream.
+     */
+    public Stream<UserDto> streamAllJobSeekers(FieldSelection fields) {
+        Query query = new Query(Criteria.where("role").is(User.UserRole.JOB_SEEKER))
+            .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+            .cursorBatchSize(streamBatchSize);
+        return mongoTemplate.stream(fields.applyTo(query), User.class).map(user -> MapperUtil.mapToUserDto(user, fields));
+    }
+
+    private void notifySeekerSaved(User user) {
+        seekerListeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onSeekerSaved(user);
+            } catch (RuntimeException e) {
+                log.error("Seeker listener {} failed for user {}", listener.getClass().getSimpleName(), user.getId(), e);
+            }
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package com.synkronos.ai.utils;
+
+import com.synkronos.ai.dto.FieldSelection;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.Supplier;
+
+/**
+ * Utility for answering conditional GETs with strong ETags
+ */
+public class ConditionalGetUtil {
+
+    // Let clients keep the body but revalidate on every use (overrides Spring Security's no-store)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    /**
+     * Reply {@code 304 Not Modified} when the request's {@code If-None-Match} matches the ETag,
+     * without calling {@code body}; otherwise {@code 200} with the body and the ETag.
+     * A null ETag (version unknown) always loads the body and sends no validator.
+     */
+    public static <T> ResponseEntity<T> respond(WebRequest request, String etag, Supplier<T> body) {
+        if (etag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        String quoted = '"' + etag + '"';
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), quoted)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(quoted).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(quoted).cacheControl(REVALIDATE).body(body.get());
+    }
+
+    /**
+     * ETag for one stored document: its id, last modification time and, for sparse
+     * fieldsets, the selection. Null when the document has no timestamp.
+     */
+    public static String entityTag(String id, LocalDateTime modified, FieldSelection fields) {
+        if (modified == null) {
+            return null;
+        }
+        String tag = id + "-" + Long.toString(modified.toInstant(ZoneOffset.UTC).toEpochMilli(), 36);
+        return fields.isAll() ? tag : tag + "-" + Integer.toHexString(fields.cacheKey().hashCode());
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
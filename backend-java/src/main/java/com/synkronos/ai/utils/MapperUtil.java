@@ -1,6 +1,7 @@
 package com.synkronos.ai.utils;
 
 import com.synkronos.ai.dto.ApplicationDto;
+import com.synkronos.ai.dto.FieldSelection;
 import com.synkronos.ai.dto.JobDto;
 import com.synkronos.ai.dto.UserDto;
 import com.synkronos.ai.entity.Application;
@@ -61,9 +62,82 @@ public class MapperUtil {
             .status(application.getStatus())
             .matchScore(application.getMatchScore())
             .matchBreakdown(application.getMatchBreakdown())
+            .scoringState(application.getScoringState())
             .coverLetter(application.getCoverLetter())
             .appliedAt(application.getAppliedAt())
             .build();
     }
-}
 
+    /**
+     * Map only the selected fields; everything else is left null and omitted from the JSON
+     */
+    public static UserDto mapToUserDto(User user, FieldSelection fields) {
+        if (fields.isAll()) {
+            return mapToUserDto(user);
+        }
+        return UserDto.builder()
+            .id(user.getId())
+            .email(fields.includes("email") ? user.getEmail() : null)
+            .firstName(fields.includes("firstName") ? user.getFirstName() : null)
+            .lastName(fields.includes("lastName") ? user.getLastName() : null)
+            .role(fields.includes("role") ? user.getRole() : null)
+            .phone(fields.includes("phone") ? user.getPhone() : null)
+            .location(fields.includes("location") ? user.getLocation() : null)
+            .bio(fields.includes("bio") ? user.getBio() : null)
+            .resumeUrl(fields.includes("resumeUrl") ? user.getResumeUrl() : null)
+            .skills(fields.includes("skills") ? user.getSkills() : null)
+            .currentPosition(fields.includes("currentPosition") ? user.getCurrentPosition() : null)
+            .yearsOfExperience(fields.includes("yearsOfExperience") ? user.getYearsOfExperience() : null)
+            .companyName(fields.includes("companyName") ? user.getCompanyName() : null)
+            .companyWebsite(fields.includes("companyWebsite") ? user.getCompanyWebsite() : null)
+            .createdAt(fields.includes("createdAt") ? user.getCreatedAt() : null)
+            .build();
+    }
+
+    /**
+     * Map only the selected fields; everything else is left null and omitted from the JSON
+     */
+    public static JobDto mapToJobDto(Job job, FieldSelection fields) {
+        if (fields.isAll()) {
+            return mapToJobDto(job);
+        }
+        return JobDto.builder()
+            .id(job.getId())
+            .recruiterId(fields.includes("recruiterId") ? job.getRecruiterId() : null)
+            .title(fields.includes("title") ? job.getTitle() : null)
+            .description(fields.includes("description") ? job.getDescription() : null)
+            .companyName(fields.includes("companyName") ? job.getCompanyName() : null)
+            .location(fields.includes("location") ? job.getLocation() : null)
+            .employmentType(fields.includes("employmentType") ? job.getEmploymentType() : null)
+            .minSalary(fields.includes("minSalary") ? job.getMinSalary() : null)
+            .maxSalary(fields.includes("maxSalary") ? job.getMaxSalary() : null)
+            .currency(fields.includes("currency") ? job.getCurrency() : null)
+            .requiredSkills(fields.includes("requiredSkills") ? job.getRequiredSkills() : null)
+            .minYearsOfExperience(fields.includes("minYearsOfExperience") ? job.getMinYearsOfExperience() : null)
+            .educationLevel(fields.includes("educationLevel") ? job.getEducationLevel() : null)
+            .status(fields.includes("status") ? job.getStatus() : null)
+            .createdAt(fields.includes("createdAt") ? job.getCreatedAt() : null)
+            .expiresAt(fields.includes("expiresAt") ? job.getExpiresAt() : null)
+            .build();
+    }
+
+    /**
+     * Map only the selected fields; everything else is left null and omitted from the JSON
+     */
+    public static ApplicationDto mapToApplicationDto(Application application, FieldSelection fields) {
+        if (fields.isAll()) {
+            return mapToApplicationDto(application);
+        }
+        return ApplicationDto.builder()
+            .id(application.getId())
+            .jobId(fields.includes("jobId") ? application.getJobId() : null)
+            .jobSeekerId(fields.includes("jobSeekerId") ? application.getJobSeekerId() : null)
+            .status(fields.includes("status") ? application.getStatus() : null)
+            .matchScore(fields.includes("matchScore") ? application.getMatchScore() : null)
+            .matchBreakdown(fields.includes("matchBreakdown") ? application.getMatchBreakdown() : null)
+            .scoringState(fields.includes("scoringState") ? application.getScoringState() : null)
+            .coverLetter(fields.includes("coverLetter") ? application.getCoverLetter() : null)
+            .appliedAt(fields.includes("appliedAt") ? application.getAppliedAt() : null)
+            .build();
+    }
+}
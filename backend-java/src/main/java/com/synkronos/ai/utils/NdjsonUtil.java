@@ -0,0 +1,47 @@
+package com.synkronos.ai.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Utility for writing newline-delimited JSON (NDJSON) responses
+ */
+public class NdjsonUtil {
+
+    private static final int FLUSH_EVERY = 100;
+
+    /**
+     * Build a response body that serializes each element of the stream as one
+     * JSON line. The stream is opened on the response thread and closed when
+     * writing finishes or the client disconnects, so a Mongo cursor behind it
+     * never outlives the request. The first record is flushed immediately.
+     */
+    public static <T> StreamingResponseBody body(ObjectMapper objectMapper, Supplier<Stream<T>> source) {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return out -> {
+            try (Stream<T> stream = source.get();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+
+                long count = 0;
+                Iterator<T> it = stream.iterator();
+                while (it.hasNext()) {
+                    writer.writeValue(generator, it.next());
+                    generator.writeRaw('\n');
+                    if (++count == 1 || count % FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                }
+                generator.flush();
+            }
+        };
+    }
+}
@@ -0,0 +1,147 @@
+package com.synkronos.ai;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.repository.JobNormalizationCallback;
+import org.junit.jupiter.api.Assumptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Connection and synthetic data for benchmarks that need a real MongoDB:
+ * query plans, secondary indexes and {@code $text} are not emulated by the
+ * in-process server. Set {@code -Dbenchmark.mongodb.uri=mongodb://host:27017};
+ * without it the benchmark is skipped. Data goes to the database named by
+ * {@code benchmark.mongodb.database} (default {@code synkronos_benchmark}),
+ * never to the one in the URI, because seeding drops the collection.
+ */
+public final class BenchmarkMongo {
+
+    private static final String[] ROLES = {"Software Engineer", "Data Scientist", "Product Manager",
+        "DevOps Engineer", "Frontend Developer", "Backend Developer", "QA Analyst", "Designer",
+        "Machine Learning Engineer", "Site Reliability Engineer", "Security Engineer", "Support Specialist"};
+    private static final String[] LEVELS = {"Junior", "Senior", "Staff", "Lead", "Principal", ""};
+    private static final String[] COMPANIES = {"Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark",
+        "Wayne", "Wonka", "Cyberdyne", "Soylent", "Tyrell", "Aperture"};
+    private static final String[] LOCATIONS = {"New York, NY", "San Francisco, CA", "Austin, TX", "Seattle, WA",
+        "Boston, MA", "Chicago, IL", "Denver, CO", "Remote", "London", "Berlin", "Toronto", "Bangalore"};
+    private static final String[] TYPES = {"FULL_TIME", "PART_TIME", "CONTRACT", "INTERNSHIP"};
+    private static final String[] EDUCATION = {"HIGH_SCHOOL", "BACHELORS", "MASTERS", "PHD"};
+    private static final String[] CURRENCIES = {"USD", "USD", "USD", "EUR", "GBP"};
+    private static final String[] WORDS = ("java spring kotlin python react typescript kubernetes docker aws gcp "
+        + "azure terraform postgres mongodb kafka redis graphql rest microservices distributed systems scalable "
+        + "backend frontend fullstack mobile android ios swift golang rust scala spark hadoop airflow analytics "
+        + "machine learning pytorch tensorflow nlp vision statistics experimentation product roadmap stakeholders "
+        + "agile scrum testing automation selenium cypress ci cd monitoring observability linux networking "
+        + "security compliance payments fintech healthcare ecommerce logistics marketplace startup enterprise "
+        + "remote hybrid mentoring leadership collaboration ownership customers performance reliability latency")
+        .split(" ");
+
+    private BenchmarkMongo() {
+    }
+
+    /**
+     * Connect to the benchmark database, or skip the calling test when no URI is configured
+     */
+    public static MongoTemplate connect() {
+        String uri = System.getProperty("benchmark.mongodb.uri");
+        Assumptions.assumeTrue(uri != null && !uri.isBlank(),
+            "Set -Dbenchmark.mongodb.uri to run this benchmark against a real MongoDB");
+        MongoClient client = MongoClients.create(uri);
+        return new MongoTemplate(client, System.getProperty("benchmark.mongodb.database", "synkronos_benchmark"));
+    }
+
+    /**
+     * Make sure the jobs collection holds exactly {@code count} synthetic jobs with the
+     * entity's declared indexes; reseeds only when the count differs
+     */
+    public static void seedJobs(MongoTemplate mongoTemplate, int count) {
+        if (mongoTemplate.collectionExists(Job.class) && mongoTemplate.count(new Query(), Job.class) == count) {
+            ensureIndexes(mongoTemplate, Job.class);
+            return;
+        }
+        mongoTemplate.dropCollection(Job.class);
+        ensureIndexes(mongoTemplate, Job.class);
+
+        Random random = new Random(42);
+        JobNormalizationCallback normalizer = new JobNormalizationCallback(mongoTemplate);
+        LocalDateTime now = LocalDateTime.now();
+        List<Job> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < count; i++) {
+            Job job = syntheticJob(random, now);
+            normalizer.onBeforeConvert(job, "jobs");
+            batch.add(job);
+            if (batch.size() == 10_000) {
+                mongoTemplate.insertAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            mongoTemplate.insertAll(batch);
+        }
+    }
+
+    /**
+     * Create the indexes declared on an entity, as auto-index-creation does at startup
+     */
+    public static void ensureIndexes(MongoTemplate mongoTemplate, Class<?> type) {
+        IndexOperations indexOps = mongoTemplate.indexOps(type);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+            .resolveIndexFor(type)
+            .forEach(indexOps::ensureIndex);
+    }
+
+    private static Job syntheticJob(Random random, LocalDateTime now) {
+        String level = pick(random, LEVELS);
+        String role = pick(random, ROLES);
+        String company = pick(random, COMPANIES) + " " + pick(random, new String[]{"Labs", "Inc", "Systems", "Group"});
+
+        StringBuilder description = new StringBuilder("We are hiring a ").append(role).append(" to join ")
+            .append(company).append('.');
+        Set<String> skills = new HashSet<>();
+        int words = 40 + random.nextInt(40);
+        for (int w = 0; w < words; w++) {
+            String word = pick(random, WORDS);
+            description.append(' ').append(word);
+            if (skills.size() < 6 && random.nextInt(8) == 0) {
+                skills.add(word);
+            }
+        }
+
+        int minSalary = 30_000 + random.nextInt(170) * 1_000;
+        Job job = new Job();
+        job.setRecruiterId("recruiter-" + random.nextInt(2_000));
+        job.setTitle(level.isEmpty() ? role : level + " " + role);
+        job.setCompanyName(company);
+        job.setDescription(description.toString());
+        job.setLocation(pick(random, LOCATIONS));
+        job.setEmploymentType(pick(random, TYPES));
+        job.setEducationLevel(pick(random, EDUCATION));
+        job.setCurrency(pick(random, CURRENCIES));
+        job.setMinSalary(BigDecimal.valueOf(minSalary));
+        job.setMaxSalary(BigDecimal.valueOf(minSalary + random.nextInt(60) * 1_000L));
+        job.setMinYearsOfExperience(random.nextInt(12));
+        job.setRequiredSkills(skills);
+        // Most jobs are live; the rest are closed or expired so the active filter has work to do
+        int state = random.nextInt(10);
+        job.setStatus(state == 0 ? Job.JobStatus.CLOSED : Job.JobStatus.ACTIVE);
+        job.setCreatedAt(now.minusMinutes(random.nextInt(60 * 24 * 180)));
+        job.setExpiresAt(state == 1 ? now.minusDays(1 + random.nextInt(30)) : now.plusDays(1 + random.nextInt(60)));
+        return job;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,73 @@
+package com.synkronos.ai;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Minimal closed-loop throughput harness for the benchmark-tagged tests:
+ * a fixed number of threads call the operation back to back, first for a
+ * warm-up period and then for the measured period.
+ */
+public final class Throughput {
+
+    private Throughput() {
+    }
+
+    /**
+     * Operation under test; may throw, which fails the benchmark
+     */
+    @FunctionalInterface
+    public interface Operation {
+        void run() throws Exception;
+    }
+
+    /**
+     * Run the operation on {@code threads} threads and return completed operations per second
+     */
+    public static double measure(int threads, Duration warmup, Duration measured, Operation operation)
+            throws InterruptedException {
+        run(threads, warmup, operation);
+        return run(threads, measured, operation) / (measured.toNanos() / 1e9);
+    }
+
+    private static long run(int threads, Duration duration, Operation operation) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder completed = new LongAdder();
+        List<Throwable> failures = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    while (running.get()) {
+                        operation.run();
+                        completed.increment();
+                    }
+                } catch (Throwable t) {
+                    synchronized (failures) {
+                        failures.add(t);
+                    }
+                    running.set(false);
+                }
+            }, "benchmark-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+
+        start.countDown();
+        Thread.sleep(duration.toMillis());
+        running.set(false);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Benchmark operation failed", failures.get(0));
+        }
+        return completed.sum();
+    }
+}
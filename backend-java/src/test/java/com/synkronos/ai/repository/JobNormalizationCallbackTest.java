@@ -0,0 +1,78 @@
+package com.synkronos.ai.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.synkronos.ai.entity.Job;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Stored employment types and education levels must match the upper-cased values
+ * the listing filters query for, both on save and for documents written before
+ */
+class JobNormalizationCallbackTest {
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private JobNormalizationCallback callback;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        mongoTemplate = new MongoTemplate(client, "job_normalization_test");
+        callback = new JobNormalizationCallback(mongoTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void normalizesCodesOnSave() {
+        Job job = new Job();
+        job.setEmploymentType(" full_time");
+        job.setEducationLevel("  ");
+
+        callback.onBeforeConvert(job, "jobs");
+
+        assertThat(job.getEmploymentType()).isEqualTo("FULL_TIME");
+        assertThat(job.getEducationLevel()).isNull();
+    }
+
+    @Test
+    void backfillNormalizesStoredCodes() {
+        String collection = mongoTemplate.getCollectionName(Job.class);
+        mongoTemplate.getCollection(collection).insertOne(new Document("_id", "legacy")
+            .append("employmentType", "Contract ")
+            .append("educationLevel", "phd")
+            .append("locationKey", "berlin")
+            .append("location", "Berlin"));
+        mongoTemplate.getCollection(collection).insertOne(new Document("_id", "current")
+            .append("employmentType", "PART_TIME")
+            .append("educationLevel", "MASTERS"));
+
+        callback.backfill();
+
+        Document legacy = mongoTemplate.getCollection(collection).find(new Document("_id", "legacy")).first();
+        assertThat(legacy.getString("employmentType")).isEqualTo("CONTRACT");
+        assertThat(legacy.getString("educationLevel")).isEqualTo("PHD");
+        Document current = mongoTemplate.getCollection(collection).find(new Document("_id", "current")).first();
+        assertThat(current.getString("employmentType")).isEqualTo("PART_TIME");
+        // Already normalized documents are not rewritten
+        assertThat(current.containsKey("currency")).isFalse();
+    }
+}
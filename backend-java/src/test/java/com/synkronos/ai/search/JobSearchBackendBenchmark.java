@@ -0,0 +1,86 @@
+package com.synkronos.ai.search;
+
+import com.synkronos.ai.BenchmarkMongo;
+import com.synkronos.ai.repository.JobRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of the {@code text} search backend against the legacy {@code regex}
+ * one on 100k synthetic jobs. Needs a real MongoDB, since the in-process
+ * server has neither {@code $text} nor secondary indexes; run with
+ * {@code mvn test -Pbenchmark -Dtest=JobSearchBackendBenchmark -Dbenchmark.mongodb.uri=mongodb://localhost:27017}.
+ */
+@Tag("benchmark")
+class JobSearchBackendBenchmark {
+
+    private static final int JOBS = Integer.getInteger("benchmark.jobs", 100_000);
+    private static final int LIMIT = 50;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final List<String> QUERIES = List.of(
+        "java", "kubernetes", "machine learning", "senior backend", "acme", "designer", "rust golang", "payments");
+
+    private static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void seed() {
+        mongoTemplate = BenchmarkMongo.connect();
+        BenchmarkMongo.seedJobs(mongoTemplate, JOBS);
+    }
+
+    @Test
+    void textIndexAgainstRegexScan() {
+        JobRepository jobRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(JobRepository.class);
+        JobSearchBackend regex = new RegexJobSearchBackend(jobRepository);
+        JobSearchBackend text = new MongoTextJobSearchBackend(mongoTemplate);
+
+        System.out.printf("Job search, %,d jobs, limit %d (mean / p95 ms per query):%n", JOBS, LIMIT);
+        System.out.printf("  %-18s %18s %18s%n", "query", "regex", "text");
+        double regexTotal = 0;
+        double textTotal = 0;
+        for (String query : QUERIES) {
+            double[] regexMillis = time(regex, query);
+            double[] textMillis = time(text, query);
+            regexTotal += mean(regexMillis);
+            textTotal += mean(textMillis);
+            System.out.printf("  %-18s %8.1f / %7.1f %8.1f / %7.1f%n", query,
+                mean(regexMillis), p95(regexMillis), mean(textMillis), p95(textMillis));
+        }
+        System.out.printf("  %-18s %8.1f %18.1f  x%.1f%n", "mean", regexTotal / QUERIES.size(),
+            textTotal / QUERIES.size(), regexTotal / textTotal);
+
+        assertThat(text.search("java", LIMIT)).isNotEmpty();
+    }
+
+    private static double[] time(JobSearchBackend backend, String query) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            backend.search(query, LIMIT);
+        }
+        double[] millis = new double[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            backend.search(query, LIMIT);
+            millis[i] = (System.nanoTime() - start) / 1e6;
+        }
+        return millis;
+    }
+
+    private static double mean(double[] values) {
+        return Arrays.stream(values).average().orElse(0);
+    }
+
+    private static double p95(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+    }
+}
@@ -0,0 +1,160 @@
+package com.synkronos.ai.security;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.synkronos.ai.Throughput;
+import com.synkronos.ai.entity.User;
+import com.synkronos.ai.repository.UserRepository;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Requests per second through {@link JwtAuthenticationFilter} for the same
+ * bearer token, comparing the original filter (three token parses and two
+ * user lookups) with the single-parse lookup mode and the stateless mode.
+ * <p>
+ * Users live in an in-process Mongo server, so a lookup is a real wire
+ * round-trip but without network latency; against a remote MongoDB the gap
+ * grows. Run with {@code mvn test -Pbenchmark -Dtest=JwtAuthenticationFilterBenchmark}.
+ */
+@Tag("benchmark")
+class JwtAuthenticationFilterBenchmark {
+
+    private static final String EMAIL = "seeker@example.com";
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASURED = Duration.ofSeconds(5);
+
+    private static MongoServer server;
+    private static MongoClient client;
+    private static UserRepository userRepository;
+    private static User user;
+
+    @BeforeAll
+    static void startMongo() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        MongoTemplate mongoTemplate = new MongoTemplate(client, "jwt_filter_benchmark");
+        userRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(UserRepository.class);
+        user = userRepository.save(User.builder()
+            .email(EMAIL)
+            .password("$2a$10$abcdefghijklmnopqrstuv1234567890123456789012345678901")
+            .role(User.UserRole.JOB_SEEKER)
+            .isActive(true)
+            .build());
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void requestsPerSecond() throws Exception {
+        // Both caches off: the original filter had neither, and it keeps the modes comparable
+        JwtTokenProvider tokenProvider = tokenProvider(0);
+        CustomUserDetailsService userDetailsService = userDetailsService(0);
+        String token = tokenProvider.generateAccessToken(user);
+
+        double before = measure(token, (request, chain) -> {
+            originalFilter(tokenProvider, userDetailsService, request);
+            chain.doFilter(request, new MockHttpServletResponse());
+        });
+        double lookup = measure(token, filter(tokenProvider, userDetailsService, false));
+        double stateless = measure(token, filter(tokenProvider, userDetailsService, true));
+        double statelessCached = measure(token, filter(tokenProvider(10_000), userDetailsService, true));
+
+        System.out.printf("JWT filter, %d threads:%n", THREADS);
+        System.out.printf("  before (3 parses, 2 lookups)   %,10.0f req/s%n", before);
+        System.out.printf("  lookup (1 parse, 1 lookup)     %,10.0f req/s  x%.1f%n", lookup, lookup / before);
+        System.out.printf("  stateless (1 parse)            %,10.0f req/s  x%.1f%n", stateless, stateless / before);
+        System.out.printf("  stateless, claims cache        %,10.0f req/s  x%.1f%n", statelessCached, statelessCached / before);
+
+        assertThat(stateless).isGreaterThan(before);
+    }
+
+    private interface FilterCall {
+        void call(MockHttpServletRequest request, FilterChain chain) throws Exception;
+    }
+
+    private static FilterCall filter(JwtTokenProvider tokenProvider, CustomUserDetailsService userDetailsService,
+                                     boolean stateless) {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService);
+        ReflectionTestUtils.setField(filter, "statelessAuth", stateless);
+        return (request, chain) -> filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+
+    /**
+     * The filter body as it was before the single-parse change
+     */
+    private static void originalFilter(JwtTokenProvider tokenProvider, CustomUserDetailsService userDetailsService,
+                                       MockHttpServletRequest request) {
+        String jwt = request.getHeader("Authorization").substring(7);
+        if (tokenProvider.validateToken(jwt,
+            userDetailsService.loadUserByUsername(tokenProvider.getUsernameFromToken(jwt)))) {
+            String username = tokenProvider.getUsernameFromToken(jwt);
+            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+    }
+
+    private static double measure(String token, FilterCall filter) throws Exception {
+        FilterChain chain = (request, response) -> {
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                throw new IllegalStateException("Request was not authenticated");
+            }
+        };
+        return Throughput.measure(THREADS, WARMUP, MEASURED, () -> {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/1");
+            request.addHeader("Authorization", "Bearer " + token);
+            try {
+                filter.call(request, chain);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        });
+    }
+
+    private static JwtTokenProvider tokenProvider(long claimsCacheSize) {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", "benchmark-secret-benchmark-secret-benchmark-secret");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(tokenProvider, "refreshExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(tokenProvider, "claimsCacheMaxSize", claimsCacheSize);
+        tokenProvider.init();
+        return tokenProvider;
+    }
+
+    private static CustomUserDetailsService userDetailsService(long cacheSize) {
+        CustomUserDetailsService service = new CustomUserDetailsService(userRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "cacheMaxSize", cacheSize);
+        ReflectionTestUtils.setField(service, "cacheTtl", Duration.ofMinutes(10));
+        service.init();
+        return service;
+    }
+}
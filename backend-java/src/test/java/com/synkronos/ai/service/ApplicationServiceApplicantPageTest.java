@@ -0,0 +1,112 @@
+package com.synkronos.ai.service;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.synkronos.ai.dto.ApplicantPage;
+import com.synkronos.ai.dto.ApplicationDto;
+import com.synkronos.ai.dto.FieldSelection;
+import com.synkronos.ai.entity.Application;
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.entity.User;
+import com.synkronos.ai.repository.ApplicationRepository;
+import com.synkronos.ai.repository.JobRepository;
+import com.synkronos.ai.repository.KeysetPager;
+import com.synkronos.ai.repository.UserRepository;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Paging a job's applicants must visit every applicant exactly once, scored ones
+ * first, whichever fields the client selects
+ */
+class ApplicationServiceApplicantPageTest {
+
+    private static final String RECRUITER_ID = "recruiter-1";
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private ApplicationService applicationService;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        mongoTemplate = new MongoTemplate(client, "applicant_page_test");
+
+        KeysetPager keysetPager = new KeysetPager(mongoTemplate);
+        ReflectionTestUtils.setField(keysetPager, "defaultSize", 20);
+        ReflectionTestUtils.setField(keysetPager, "maxSize", 100);
+        // Listing applicants reads through the pager and the template only
+        ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+        JobRepository jobRepository = mock(JobRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        MatchScoringWorker matchScoringWorker = mock(MatchScoringWorker.class);
+        applicationService = new ApplicationService(applicationRepository, jobRepository, userRepository,
+            matchScoringWorker, keysetPager, mongoTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"status", "jobSeeker.firstName", "matchScore,status"})
+    void pagesAcrossScoredAndUnscoredApplicantsWithSparseFields(String fields) {
+        Job job = new Job();
+        job.setTitle("Backend Engineer");
+        job.setRecruiterId(RECRUITER_ID);
+        job = mongoTemplate.insert(job);
+
+        List<String> expected = new ArrayList<>();
+        Double[] scores = {91.0, 75.5, 75.5, 40.0, null, null, null};
+        for (Double score : scores) {
+            User seeker = new User();
+            seeker.setEmail("seeker" + expected.size() + "@example.com");
+            seeker.setFirstName("Seeker " + expected.size());
+            seeker = mongoTemplate.insert(seeker);
+            Application application = mongoTemplate.insert(Application.builder()
+                .jobId(job.getId())
+                .jobSeekerId(seeker.getId())
+                .status(Application.ApplicationStatus.PENDING)
+                .matchScore(score)
+                .appliedAt(LocalDateTime.now())
+                .build());
+            expected.add(application.getId());
+        }
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ApplicantPage page = applicationService.getApplicationsByJob(job.getId(), RECRUITER_ID,
+                FieldSelection.of(fields, null), cursor, 2);
+            page.getItems().stream().map(ApplicationDto::getId).forEach(seen::add);
+            cursor = page.getNextCursor();
+            assertThat(page.isHasMore()).isEqualTo(cursor != null);
+            assertThat(++pages).isLessThanOrEqualTo(scores.length);
+        } while (cursor != null);
+
+        assertThat(seen).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+        // Best match first: the four scored applicants precede the unscored ones
+        assertThat(seen.subList(0, 4)).containsExactlyInAnyOrderElementsOf(expected.subList(0, 4));
+        assertThat(seen.get(0)).isEqualTo(expected.get(0));
+    }
+}
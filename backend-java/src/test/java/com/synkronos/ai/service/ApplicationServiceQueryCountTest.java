@@ -0,0 +1,125 @@
+package com.synkronos.ai.service;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.synkronos.ai.dto.ApplicationDto;
+import com.synkronos.ai.dto.CursorPage;
+import com.synkronos.ai.dto.FieldSelection;
+import com.synkronos.ai.entity.Application;
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.repository.KeysetPager;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A page of a seeker's applications must cost a fixed number of Mongo commands,
+ * however many applications (and distinct jobs) it holds
+ */
+class ApplicationServiceQueryCountTest {
+
+    private static final String SEEKER_ID = "seeker-1";
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private ApplicationService applicationService;
+    private final AtomicInteger commands = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        CommandListener counter = new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                commands.incrementAndGet();
+            }
+        };
+        client = MongoClients.create(MongoClientSettings.builder()
+            .applyConnectionString(new ConnectionString("mongodb://" + address.getHostString() + ":" + address.getPort()))
+            .addCommandListener(counter)
+            .build());
+        mongoTemplate = new MongoTemplate(client, "query_count_test");
+
+        KeysetPager keysetPager = new KeysetPager(mongoTemplate);
+        ReflectionTestUtils.setField(keysetPager, "defaultSize", 20);
+        ReflectionTestUtils.setField(keysetPager, "maxSize", 100);
+        applicationService = new ApplicationService(null, null, null, null, keysetPager, mongoTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 40})
+    void batchJoinCostsTwoCommandsPerPage(int applications) {
+        seed(applications);
+        ReflectionTestUtils.setField(applicationService, "jobJoin", "batch");
+
+        CursorPage<ApplicationDto> page = countCommands(() ->
+            applicationService.getApplicationsByJobSeeker(SEEKER_ID, FieldSelection.ALL, null, 100));
+
+        assertThat(page.getItems()).hasSize(applications).allSatisfy(dto -> assertThat(dto.getJob()).isNotNull());
+        assertThat(commands.get()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 40})
+    void lookupJoinCostsOneCommandPerPage(int applications) {
+        seed(applications);
+        ReflectionTestUtils.setField(applicationService, "jobJoin", "lookup");
+
+        CursorPage<ApplicationDto> page = countCommands(() ->
+            applicationService.getApplicationsByJobSeeker(SEEKER_ID, FieldSelection.ALL, null, 100));
+
+        assertThat(page.getItems()).hasSize(applications).allSatisfy(dto -> assertThat(dto.getJob()).isNotNull());
+        assertThat(commands.get()).isEqualTo(1);
+    }
+
+    private <T> T countCommands(java.util.function.Supplier<T> call) {
+        commands.set(0);
+        return call.get();
+    }
+
+    private void seed(int count) {
+        List<Job> jobs = new ArrayList<>();
+        List<Application> applications = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            Job job = new Job();
+            job.setTitle("Job " + i);
+            job.setRecruiterId("recruiter-1");
+            jobs.add(mongoTemplate.insert(job));
+        }
+        for (int i = 0; i < count; i++) {
+            applications.add(Application.builder()
+                .jobId(jobs.get(i).getId())
+                .jobSeekerId(SEEKER_ID)
+                .status(Application.ApplicationStatus.PENDING)
+                .appliedAt(now.minusMinutes(i))
+                .build());
+        }
+        mongoTemplate.insertAll(applications);
+    }
+}
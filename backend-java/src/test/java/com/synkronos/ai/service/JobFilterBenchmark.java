@@ -0,0 +1,183 @@
+package com.synkronos.ai.service;
+
+import com.mongodb.ExplainVerbosity;
+import com.synkronos.ai.BenchmarkMongo;
+import com.synkronos.ai.dto.CursorPage;
+import com.synkronos.ai.dto.FieldSelection;
+import com.synkronos.ai.dto.JobFilter;
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.repository.JobRepository;
+import com.synkronos.ai.repository.KeysetPager;
+import com.synkronos.ai.repository.UserRepository;
+import com.synkronos.ai.search.CandidateIndex;
+import com.synkronos.ai.search.JobFacetIndex;
+import com.synkronos.ai.search.JobRecommendationIndex;
+import com.synkronos.ai.search.JobSearchBackend;
+import com.synkronos.ai.search.SuggestionIndex;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * First-page latency of the structured job filters on 500k synthetic jobs,
+ * with the winning index and the keys and documents each query examined.
+ * The criteria come from {@link JobService} itself and the page from
+ * {@link KeysetPager}, so this measures the listing query as served. Needs a
+ * real MongoDB for query planning; run with
+ * {@code mvn test -Pbenchmark -Dtest=JobFilterBenchmark -Dbenchmark.mongodb.uri=mongodb://localhost:27017}.
+ */
+@Tag("benchmark")
+class JobFilterBenchmark {
+
+    private static final int JOBS = Integer.getInteger("benchmark.jobs", 500_000);
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    private static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void seed() {
+        mongoTemplate = BenchmarkMongo.connect();
+        BenchmarkMongo.seedJobs(mongoTemplate, JOBS);
+    }
+
+    @Test
+    void filteredFirstPage() {
+        KeysetPager keysetPager = new KeysetPager(mongoTemplate);
+        ReflectionTestUtils.setField(keysetPager, "defaultSize", PAGE_SIZE);
+        ReflectionTestUtils.setField(keysetPager, "maxSize", 100);
+        // Only toCriteria is used, which reads the filter alone; the page comes from the pager
+        JobRepository jobRepository = mock(JobRepository.class);
+        JobSearchBackend jobSearchBackend = mock(JobSearchBackend.class);
+        JobFacetIndex jobFacetIndex = mock(JobFacetIndex.class);
+        JobRecommendationIndex jobRecommendationIndex = mock(JobRecommendationIndex.class);
+        CandidateIndex candidateIndex = mock(CandidateIndex.class);
+        SuggestionIndex suggestionIndex = mock(SuggestionIndex.class);
+        JobQueryCache jobQueryCache = mock(JobQueryCache.class);
+        JobJsonCache jobJsonCache = mock(JobJsonCache.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<JobCatalogListener> catalogListeners = mock(ObjectProvider.class);
+        JobService jobService = new JobService(jobRepository, jobSearchBackend, jobFacetIndex, jobRecommendationIndex,
+            candidateIndex, suggestionIndex, jobQueryCache, jobJsonCache, userRepository, keysetPager, mongoTemplate,
+            catalogListeners);
+
+        System.out.printf("Job filters, %,d jobs, page of %d:%n", JOBS, PAGE_SIZE);
+        System.out.printf("  %-26s %8s %8s %10s %10s  %s%n", "filter", "mean ms", "p95 ms", "keys", "docs", "index");
+        filters().forEach((name, filter) -> {
+            Criteria probe = ReflectionTestUtils.invokeMethod(jobService, "toCriteria", filter);
+            double[] millis = time(() -> {
+                Criteria criteria = ReflectionTestUtils.invokeMethod(jobService, "toCriteria", filter);
+                CursorPage<Job> page = keysetPager.page(criteria, Job.class, "createdAt", Job::getCreatedAt,
+                    Job::getId, FieldSelection.ALL, null, PAGE_SIZE);
+                assertThat(page.getItems()).isNotEmpty();
+            });
+            Document plan = explain(probe);
+            Document stats = plan.get("executionStats", Document.class);
+            System.out.printf("  %-26s %8.2f %8.2f %,10d %,10d  %s%n", name, mean(millis), p95(millis),
+                stats.get("totalKeysExamined", Number.class).longValue(),
+                stats.get("totalDocsExamined", Number.class).longValue(),
+                String.join(",", indexNames(plan.get("queryPlanner", Document.class))));
+        });
+    }
+
+    private static Map<String, JobFilter> filters() {
+        Map<String, JobFilter> filters = new LinkedHashMap<>();
+        filters.put("none", filter(f -> { }));
+        filters.put("employmentType", filter(f -> f.setEmploymentType("CONTRACT")));
+        filters.put("location", filter(f -> f.setLocation("san francisco ca")));
+        filters.put("educationLevel", filter(f -> f.setEducationLevel("PHD")));
+        filters.put("salary 150k-160k USD", filter(f -> {
+            f.setSalaryMin(BigDecimal.valueOf(150_000));
+            f.setSalaryMax(BigDecimal.valueOf(160_000));
+        }));
+        filters.put("maxExperience 1", filter(f -> f.setMaxExperience(1)));
+        filters.put("type+location+salary", filter(f -> {
+            f.setEmploymentType("FULL_TIME");
+            f.setLocation("Berlin");
+            f.setSalaryMin(BigDecimal.valueOf(100_000));
+            f.setCurrency("EUR");
+        }));
+        return filters;
+    }
+
+    private static JobFilter filter(Consumer<JobFilter> setup) {
+        JobFilter filter = new JobFilter();
+        setup.accept(filter);
+        return filter;
+    }
+
+    private static Document explain(Criteria criteria) {
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"));
+        Document mapped = new QueryMapper(mongoTemplate.getConverter()).getMappedObject(query.getQueryObject(),
+            mongoTemplate.getConverter().getMappingContext().getPersistentEntity(Job.class));
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Job.class))
+            .find(mapped)
+            .sort(query.getSortObject())
+            .limit(PAGE_SIZE + 1)
+            .explain(ExplainVerbosity.EXECUTION_STATS);
+    }
+
+    /**
+     * Names of the indexes used anywhere in the winning plan, or COLLSCAN
+     */
+    private static List<String> indexNames(Document queryPlanner) {
+        List<String> names = new ArrayList<>();
+        collectIndexNames(queryPlanner.get("winningPlan"), names);
+        return names.isEmpty() ? List.of("COLLSCAN") : names;
+    }
+
+    private static void collectIndexNames(Object node, List<String> names) {
+        if (node instanceof Document document) {
+            if (document.get("indexName") instanceof String name) {
+                names.add(name);
+            }
+            document.values().forEach(value -> collectIndexNames(value, names));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectIndexNames(value, names));
+        }
+    }
+
+    private static double[] time(Runnable query) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            query.run();
+        }
+        double[] millis = new double[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            query.run();
+            millis[i] = (System.nanoTime() - start) / 1e6;
+        }
+        return millis;
+    }
+
+    private static double mean(double[] values) {
+        return Arrays.stream(values).average().orElse(0);
+    }
+
+    private static double p95(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+    }
+}
@@ -0,0 +1,142 @@
+package com.synkronos.ai.service;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.synkronos.ai.dto.JobDto;
+import com.synkronos.ai.entity.Job;
+import com.synkronos.ai.repository.JobRepository;
+import com.synkronos.ai.repository.KeysetPager;
+import com.synkronos.ai.repository.UserRepository;
+import com.synkronos.ai.search.CandidateIndex;
+import com.synkronos.ai.search.JobFacetIndex;
+import com.synkronos.ai.search.JobRecommendationIndex;
+import com.synkronos.ai.search.JobSearchBackend;
+import com.synkronos.ai.search.SuggestionIndex;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Closing expired jobs must leave alone, and keep in the catalog views, any job
+ * reopened between the sweep's read and its update; reopening an expired job
+ * must make it live again
+ */
+class JobServiceExpiryTest {
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private JobRepository jobRepository;
+    private JobService jobService;
+    private Runnable afterJobRead = () -> { };
+    private final List<String> removed = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        mongoTemplate = new MongoTemplate(client, "job_expiry_test") {
+            @Override
+            public <T> List<T> find(Query query, Class<T> entityClass) {
+                List<T> result = super.find(query, entityClass);
+                Runnable hook = afterJobRead;
+                afterJobRead = () -> { };
+                hook.run();
+                return result;
+            }
+        };
+        jobRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(JobRepository.class);
+
+        JobCatalogListener listener = new JobCatalogListener() {
+            @Override
+            public void onJobSaved(Job job) {
+            }
+
+            @Override
+            public void onJobRemoved(String jobId) {
+                removed.add(jobId);
+            }
+        };
+        // Closing and reopening jobs go through the repository, the template and the catalog
+        // listeners only; the search views and caches are reached through the listeners
+        JobSearchBackend jobSearchBackend = mock(JobSearchBackend.class);
+        JobFacetIndex jobFacetIndex = mock(JobFacetIndex.class);
+        JobRecommendationIndex jobRecommendationIndex = mock(JobRecommendationIndex.class);
+        CandidateIndex candidateIndex = mock(CandidateIndex.class);
+        SuggestionIndex suggestionIndex = mock(SuggestionIndex.class);
+        JobQueryCache jobQueryCache = mock(JobQueryCache.class);
+        JobJsonCache jobJsonCache = mock(JobJsonCache.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        KeysetPager keysetPager = mock(KeysetPager.class);
+        jobService = new JobService(jobRepository, jobSearchBackend, jobFacetIndex, jobRecommendationIndex,
+            candidateIndex, suggestionIndex, jobQueryCache, jobJsonCache, userRepository, keysetPager, mongoTemplate,
+            new StaticListableBeanFactory(Map.of("listener", listener)).getBeanProvider(JobCatalogListener.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void closeExpiredJobsSkipsAndKeepsJobsReopenedMeanwhile() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(save(Job.JobStatus.ACTIVE, now.minusDays(i + 1)).getId());
+        }
+        String reopened = ids.get(0);
+        // A recruiter extends the first job after the sweep has read the expired ids
+        afterJobRead = () -> mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(reopened)),
+            new Update().set("expiresAt", now.plusMonths(1)), Job.class);
+
+        int closed = jobService.closeExpiredJobs(now, 10);
+
+        assertThat(closed).isEqualTo(2);
+        assertThat(removed).containsExactlyInAnyOrder(ids.get(1), ids.get(2));
+        assertThat(jobRepository.findById(reopened).orElseThrow().getStatus()).isEqualTo(Job.JobStatus.ACTIVE);
+        assertThat(jobRepository.findById(ids.get(1)).orElseThrow().getStatus()).isEqualTo(Job.JobStatus.CLOSED);
+    }
+
+    @Test
+    void reopeningAnExpiredJobStartsANewTerm() {
+        Job job = save(Job.JobStatus.CLOSED, LocalDateTime.now().minusDays(1));
+        JobDto update = new JobDto();
+        update.setStatus(Job.JobStatus.ACTIVE);
+
+        JobDto reopened = jobService.updateJob(job.getId(), update, job.getRecruiterId());
+
+        assertThat(reopened.getStatus()).isEqualTo(Job.JobStatus.ACTIVE);
+        assertThat(reopened.getExpiresAt()).isAfter(LocalDateTime.now().plusMonths(2));
+        assertThat(jobService.closeExpiredJobs(LocalDateTime.now(), 10)).isZero();
+    }
+
+    private Job save(Job.JobStatus status, LocalDateTime expiresAt) {
+        Job job = new Job();
+        job.setTitle("Job");
+        job.setRecruiterId("recruiter-1");
+        job.setStatus(status);
+        job.setExpiresAt(expiresAt);
+        return mongoTemplate.insert(job);
+    }
+}
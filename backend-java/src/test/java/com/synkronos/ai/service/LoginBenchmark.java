@@ -0,0 +1,121 @@
+package com.synkronos.ai.service;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.synkronos.ai.Throughput;
+import com.synkronos.ai.dto.AuthRequest;
+import com.synkronos.ai.entity.User;
+import com.synkronos.ai.repository.UserRepository;
+import com.synkronos.ai.security.JwtTokenProvider;
+import com.synkronos.ai.security.PasswordHashingExecutor;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Successful logins per second through {@link AuthService#login} at several
+ * BCrypt costs, with more concurrent callers than hashing threads so the
+ * bounded pool, not the callers, sets the pace. Each cost step doubles the
+ * hashing work, so throughput should roughly halve per step.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=LoginBenchmark}.
+ */
+@Tag("benchmark")
+class LoginBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+    private static final int[] COSTS = {8, 10, 12};
+    private static final int HASHING_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int CALLERS = HASHING_THREADS * 4;
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASURED = Duration.ofSeconds(10);
+
+    private static MongoServer server;
+    private static MongoClient client;
+    private static UserRepository userRepository;
+
+    @BeforeAll
+    static void startMongo() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        MongoTemplate mongoTemplate = new MongoTemplate(client, "login_benchmark");
+        userRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(UserRepository.class);
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void loginsPerSecondByCost() throws Exception {
+        JwtTokenProvider tokenProvider = tokenProvider();
+        double[] results = new double[COSTS.length];
+        for (int i = 0; i < COSTS.length; i++) {
+            int cost = COSTS[i];
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+            String email = "cost" + cost + "@example.com";
+            userRepository.save(User.builder()
+                .email(email)
+                .password(encoder.encode(PASSWORD))
+                .role(User.UserRole.JOB_SEEKER)
+                .isActive(true)
+                .build());
+
+            PasswordHashingExecutor executor = hashingExecutor(encoder, cost);
+            AuthService authService = new AuthService(userRepository, executor, tokenProvider, null, null);
+            AuthRequest request = new AuthRequest();
+            request.setEmail(email);
+            request.setPassword(PASSWORD);
+            try {
+                results[i] = Throughput.measure(CALLERS, WARMUP, MEASURED, () -> authService.login(request));
+            } finally {
+                ReflectionTestUtils.invokeMethod(executor, "shutdown");
+            }
+        }
+
+        System.out.printf("Logins, %d hashing threads, %d callers:%n", HASHING_THREADS, CALLERS);
+        for (int i = 0; i < COSTS.length; i++) {
+            System.out.printf("  cost %2d  %,8.1f logins/s  %6.1f ms CPU per login%n",
+                COSTS[i], results[i], 1000.0 * HASHING_THREADS / results[i]);
+        }
+
+        assertThat(results[0]).isGreaterThan(results[COSTS.length - 1]);
+    }
+
+    private static PasswordHashingExecutor hashingExecutor(BCryptPasswordEncoder encoder, int cost) {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(encoder, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(executor, "strength", cost);
+        ReflectionTestUtils.setField(executor, "threads", HASHING_THREADS);
+        // Room for every caller, so the numbers measure hashing rather than rejections
+        ReflectionTestUtils.setField(executor, "queueCapacity", CALLERS);
+        ReflectionTestUtils.setField(executor, "timeout", Duration.ofMinutes(1));
+        ReflectionTestUtils.invokeMethod(executor, "init");
+        return executor;
+    }
+
+    private static JwtTokenProvider tokenProvider() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", "benchmark-secret-benchmark-secret-benchmark-secret");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(tokenProvider, "refreshExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(tokenProvider, "claimsCacheMaxSize", 10_000L);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+        return tokenProvider;
+    }
+}
@@ -11,21 +11,23 @@ const Applications = () => {
   const jobId = searchParams.get('jobId')
   const [applications, setApplications] = useState([])
   const [loading, setLoading] = useState(true)
+  const [nextCursor, setNextCursor] = useState(null)
+  const [loadingMore, setLoadingMore] = useState(false)
 
   useEffect(() => {
     fetchApplications()
   }, [jobId])
 
+  const fetchPage = (cursor) => user?.role === 'RECRUITER' && jobId
+    ? applicationService.getApplicationsByJob(jobId, cursor)
+    : applicationService.getMyApplications(cursor)
+
   const fetchApplications = async () => {
     try {
       setLoading(true)
-      let data
-      if (user?.role === 'RECRUITER' && jobId) {
-        data = await applicationService.getApplicationsByJob(jobId)
-      } else {
-        data = await applicationService.getMyApplications()
-      }
-      setApplications(data)
+      const page = await fetchPage()
+      setApplications(page.items)
+      setNextCursor(page.hasMore ? page.nextCursor : null)
     } catch (error) {
       toast.error('Failed to load applications')
     } finally {
@@ -33,13 +35,26 @@ const Applications = () => {
     }
   }
 
+  const loadMore = async () => {
+    try {
+      setLoadingMore(true)
+      const page = await fetchPage(nextCursor)
+      setApplications(prev => [...prev, ...page.items])
+      setNextCursor(page.hasMore ? page.nextCursor : null)
+    } catch (error) {
+      toast.error('Failed to load more applications')
+    } finally {
+      setLoadingMore(false)
+    }
+  }
+
   const handleStatusUpdate = async (applicationId, newStatus) => {
     if (user?.role !== 'RECRUITER') return
 
     try {
       await applicationService.updateApplicationStatus(applicationId, newStatus)
       toast.success('Application status updated')
-      fetchApplications()
+      setApplications(prev => prev.map(a => (a.id === applicationId ? { ...a, status: newStatus } : a)))
     } catch (error) {
       toast.error('Failed to update status')
     }
@@ -125,7 +140,7 @@ const Applications = () => {
                       </span>
                     </td>
                     <td className="px-6 py-4 whitespace-nowrap text-sm text-gray-500">
-                      {app.matchScore ? `${app.matchScore.toFixed(1)}%` : 'N/A'}
+                      {app.matchScore ? `${app.matchScore.toFixed(1)}%` : app.scoringState === 'PENDING' ? 'Scoring...' : 'N/A'}
                     </td>
                     <td className="px-6 py-4 whitespace-nowrap text-sm text-gray-500">
                       {new Date(app.appliedAt).toLocaleDateString()}
@@ -156,6 +171,18 @@ const Applications = () => {
             <p className="text-gray-500">No applications found</p>
           </div>
         )}
+
+        {nextCursor && !loading && (
+          <div className="text-center mt-8">
+            <button
+              onClick={loadMore}
+              disabled={loadingMore}
+              className="bg-white border border-gray-300 text-gray-700 px-6 py-2 rounded-md hover:bg-gray-50 disabled:opacity-50"
+            >
+              {loadingMore ? 'Loading...' : 'Load more'}
+            </button>
+          </div>
+        )}
       </div>
     </div>
   )
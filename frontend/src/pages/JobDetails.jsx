@@ -1,7 +1,7 @@
 import { useEffect, useState } from 'react'
 import { useParams, useNavigate, Link } from 'react-router-dom'
 import Navbar from '../components/Navbar'
-import { jobService, applicationService } from '../services/api'
+import { jobService, applicationService, fetchAllPages } from '../services/api'
 import { useAuth } from '../contexts/AuthContext'
 import toast from 'react-hot-toast'
 
@@ -35,7 +35,7 @@ const JobDetails = () => {
   const checkApplication = async () => {
     if (user?.role !== 'JOB_SEEKER') return
     try {
-      const applications = await applicationService.getMyApplications()
+      const applications = await fetchAllPages(applicationService.getMyApplications)
       const applied = applications.some(a => a.jobId === id)
       setHasApplied(applied)
     } catch (error) {
@@ -1,7 +1,7 @@
 import { useEffect, useState } from 'react'
 import { Link } from 'react-router-dom'
 import Navbar from '../components/Navbar'
-import { jobService, applicationService } from '../services/api'
+import { jobService, applicationService, fetchAllPages } from '../services/api'
 import { useAuth } from '../contexts/AuthContext'
 import { BarChart, Bar, XAxis, YAxis, CartesianGrid, Tooltip, Legend, ResponsiveContainer, PieChart, Pie, Cell } from 'recharts'
 import toast from 'react-hot-toast'
@@ -23,8 +23,8 @@ const JobSeekerDashboard = () => {
 
   const fetchDashboardData = async () => {
     try {
-      const [applications, jobs] = await Promise.all([
-        applicationService.getMyApplications(),
+      const [applications, { items: jobs }] = await Promise.all([
+        fetchAllPages(applicationService.getMyApplications),
         jobService.getAllJobs(),
       ])
 
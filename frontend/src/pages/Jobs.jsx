@@ -5,23 +5,54 @@ import { jobService } from '../services/api'
 import { useAuth } from '../contexts/AuthContext'
 import toast from 'react-hot-toast'
 
+// Wait for a pause in typing before asking for suggestions
+const SUGGEST_DELAY_MS = 150
+
 const Jobs = () => {
   const { user } = useAuth()
   const [jobs, setJobs] = useState([])
   const [searchTerm, setSearchTerm] = useState('')
+  const [suggestions, setSuggestions] = useState([])
   const [loading, setLoading] = useState(true)
+  const [nextCursor, setNextCursor] = useState(null)
+  const [loadingMore, setLoadingMore] = useState(false)
 
   useEffect(() => {
     fetchJobs()
   }, [])
 
+  useEffect(() => {
+    if (!searchTerm.trim()) {
+      setSuggestions([])
+      return
+    }
+    // A newer keystroke clears the timer and aborts the request, so stale responses never land
+    const controller = new AbortController()
+    const timer = setTimeout(async () => {
+      try {
+        setSuggestions(await jobService.suggest(searchTerm, controller.signal))
+      } catch (error) {
+        if (!controller.signal.aborted) {
+          setSuggestions([])
+        }
+      }
+    }, SUGGEST_DELAY_MS)
+    return () => {
+      clearTimeout(timer)
+      controller.abort()
+    }
+  }, [searchTerm])
+
+  const fetchPage = (cursor) => user?.role === 'RECRUITER'
+    ? jobService.getMyJobs(cursor)
+    : jobService.getAllJobs(cursor)
+
   const fetchJobs = async () => {
     try {
       setLoading(true)
-      const data = user?.role === 'RECRUITER' 
-        ? await jobService.getMyJobs()
-        : await jobService.getAllJobs()
-      setJobs(data)
+      const page = await fetchPage()
+      setJobs(page.items)
+      setNextCursor(page.hasMore ? page.nextCursor : null)
     } catch (error) {
       toast.error('Failed to load jobs')
     } finally {
@@ -29,6 +60,19 @@ const Jobs = () => {
     }
   }
 
+  const loadMore = async () => {
+    try {
+      setLoadingMore(true)
+      const page = await fetchPage(nextCursor)
+      setJobs(prev => [...prev, ...page.items])
+      setNextCursor(page.hasMore ? page.nextCursor : null)
+    } catch (error) {
+      toast.error('Failed to load more jobs')
+    } finally {
+      setLoadingMore(false)
+    }
+  }
+
   const handleSearch = async () => {
     if (!searchTerm.trim()) {
       fetchJobs()
@@ -38,6 +82,7 @@ const Jobs = () => {
       setLoading(true)
       const data = await jobService.searchJobs(searchTerm)
       setJobs(data)
+      setNextCursor(null)
     } catch (error) {
       toast.error('Search failed')
     } finally {
@@ -72,9 +117,15 @@ const Jobs = () => {
                 placeholder="Search jobs by title, company, or skills..."
                 className="flex-1 px-4 py-2 border border-gray-300 rounded-md focus:outline-none focus:ring-2 focus:ring-primary-500"
                 value={searchTerm}
+                list="job-suggestions"
                 onChange={(e) => setSearchTerm(e.target.value)}
                 onKeyPress={(e) => e.key === 'Enter' && handleSearch()}
               />
+              <datalist id="job-suggestions">
+                {suggestions.map((s) => (
+                  <option key={`${s.type}-${s.text}`} value={s.text} />
+                ))}
+              </datalist>
               <button
                 onClick={handleSearch}
                 className="bg-primary-600 text-white px-6 py-2 rounded-md hover:bg-primary-700"
@@ -134,6 +185,18 @@ const Jobs = () => {
             <p className="text-gray-500">No jobs found</p>
           </div>
         )}
+
+        {nextCursor && !loading && (
+          <div className="text-center mt-8">
+            <button
+              onClick={loadMore}
+              disabled={loadingMore}
+              className="bg-white border border-gray-300 text-gray-700 px-6 py-2 rounded-md hover:bg-gray-50 disabled:opacity-50"
+            >
+              {loadingMore ? 'Loading...' : 'Load more'}
+            </button>
+          </div>
+        )}
       </div>
     </div>
   )
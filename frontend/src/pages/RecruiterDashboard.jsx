@@ -1,7 +1,7 @@
 import { useEffect, useState } from 'react'
 import { Link } from 'react-router-dom'
 import Navbar from '../components/Navbar'
-import { jobService, applicationService } from '../services/api'
+import { jobService, applicationService, fetchAllPages } from '../services/api'
 import { useAuth } from '../contexts/AuthContext'
 import { BarChart, Bar, XAxis, YAxis, CartesianGrid, Tooltip, Legend, ResponsiveContainer, LineChart, Line } from 'recharts'
 import toast from 'react-hot-toast'
@@ -23,7 +23,8 @@ const RecruiterDashboard = () => {
 
   const fetchDashboardData = async () => {
     try {
-      const myJobs = await jobService.getMyJobs()
+      // Stats cover every posting and applicant, so follow the cursors to the last page
+      const myJobs = await fetchAllPages(jobService.getMyJobs)
       setJobs(myJobs)
       
       const activeJobs = myJobs.filter(j => j.status === 'ACTIVE')
@@ -38,7 +39,8 @@ const RecruiterDashboard = () => {
       const allApplications = []
       for (const job of activeJobs) {
         try {
-          const applications = await applicationService.getApplicationsByJob(job.id)
+          const applications = await fetchAllPages((cursor, limit) =>
+            applicationService.getApplicationsByJob(job.id, cursor, limit))
           allApplications.push(...applications)
         } catch (error) {
           console.error(`Failed to fetch applications for job ${job.id}`)
@@ -35,6 +35,25 @@ api.interceptors.response.use(
   }
 )
 
+// pagination.max-size on the API; larger limits are clamped to it
+const MAX_PAGE_SIZE = 100
+
+const toPage = ({ items, nextCursor, hasMore }) => ({ items, nextCursor, hasMore })
+
+/**
+ * Follow nextCursor until the last page and return all items. fetchPage(cursor, limit) returns a page.
+ */
+export const fetchAllPages = async (fetchPage) => {
+  const items = []
+  let cursor = null
+  do {
+    const page = await fetchPage(cursor, MAX_PAGE_SIZE)
+    items.push(...page.items)
+    cursor = page.hasMore ? page.nextCursor : null
+  } while (cursor)
+  return items
+}
+
 export const authService = {
   setToken: (token) => {
     if (token) {
@@ -61,8 +80,13 @@ export const authService = {
 }
 
 export const jobService = {
-  getAllJobs: async () => {
-    const response = await api.get('/jobs')
+  getAllJobs: async (cursor, limit) => {
+    const response = await api.get('/jobs', { params: { cursor, limit } })
+    return toPage(response.data)
+  },
+
+  getRecommendedJobs: async (limit) => {
+    const response = await api.get('/jobs/recommended', { params: { limit } })
     return response.data
   },
 
@@ -71,9 +95,14 @@ export const jobService = {
     return response.data
   },
 
+  suggest: async (prefix, signal) => {
+    const response = await api.get('/jobs/suggest', { params: { prefix }, signal })
+    return response.data
+  },
+
   searchJobs: async (query) => {
     const response = await api.get('/jobs/search', { params: { q: query } })
-    return response.data
+    return response.data.items
   },
 
   createJob: async (jobData) => {
@@ -91,9 +120,9 @@ export const jobService = {
     return response.data
   },
 
-  getMyJobs: async () => {
-    const response = await api.get('/jobs/recruiter/my-jobs')
-    return response.data
+  getMyJobs: async (cursor, limit) => {
+    const response = await api.get('/jobs/recruiter/my-jobs', { params: { cursor, limit } })
+    return toPage(response.data)
   },
 }
 
@@ -103,14 +132,15 @@ export const applicationService = {
     return response.data
   },
 
-  getMyApplications: async () => {
-    const response = await api.get('/applications/my-applications')
-    return response.data
+  getMyApplications: async (cursor, limit) => {
+    const response = await api.get('/applications/my-applications', { params: { cursor, limit } })
+    return toPage(response.data)
   },
 
-  getApplicationsByJob: async (jobId) => {
-    const response = await api.get(`/applications/job/${jobId}`)
-    return response.data
+  getApplicationsByJob: async (jobId, cursor, limit) => {
+    const response = await api.get(`/applications/job/${jobId}`, { params: { cursor, limit } })
+    const { job, items } = response.data
+    return toPage({ ...response.data, items: items.map((application) => ({ ...application, job })) })
   },
 
   updateApplicationStatus: async (applicationId, status) => {
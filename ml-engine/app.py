@@ -16,6 +16,9 @@ load_dotenv()
 app = Flask(__name__)
 CORS(app)
 
+# Upper bound on the number of items accepted by /predict-score-batch
+MAX_BATCH_SIZE = int(os.getenv('MAX_BATCH_SIZE', 100))
+
 # Common technical skills database (simple keyword list)
 TECH_SKILLS = [
     'java', 'python', 'javascript', 'typescript', 'react', 'angular', 'vue',
@@ -172,6 +175,64 @@ def health_check():
     }), 200
 
 
+def score_candidate(data):
+    """
+    Score one resume against one job; shared by the single and batch endpoints
+    """
+    resume_text = data.get('resumeText', '')
+    job_required_skills = data.get('jobRequiredSkills', [])
+    job_min_years = data.get('jobMinYearsOfExperience', 0)
+    job_description = data.get('jobDescription', '')
+
+    # Extract information from resume
+    extracted_skills = extract_skills_from_text(resume_text)
+    resume_years = extract_experience_years(resume_text)
+
+    # Calculate individual scores
+    skill_match_score = calculate_skill_match_score(
+        list(extracted_skills),
+        job_required_skills
+    )
+
+    experience_score = calculate_experience_score(
+        resume_years,
+        job_min_years
+    )
+
+    text_similarity_score = calculate_text_similarity(
+        resume_text,
+        job_description
+    )
+
+    # Create breakdown
+    breakdown = {
+        'skillMatch': skill_match_score,
+        'experienceMatch': experience_score,
+        'textSimilarity': text_similarity_score
+    }
+
+    # Calculate overall score
+    overall_score = calculate_overall_score(breakdown)
+
+    # Create skill match scores dictionary
+    skill_match_scores = {}
+    if job_required_skills:
+        for skill in job_required_skills:
+            skill_lower = skill.lower()
+            if any(skill_lower in s.lower() or s.lower() in skill_lower
+                   for s in extracted_skills):
+                skill_match_scores[skill] = 100.0
+            else:
+                skill_match_scores[skill] = 0.0
+
+    return {
+        'overallScore': overall_score,
+        'skillMatchScores': skill_match_scores,
+        'breakdown': breakdown,
+        'extractedSkills': list(extracted_skills)
+    }
+
+
 @app.route('/predict-score', methods=['POST'])
 def predict_score():
     """
@@ -191,61 +252,7 @@ def predict_score():
         if not data:
             return jsonify({'error': 'Request body is required'}), 400
         
-        resume_text = data.get('resumeText', '')
-        job_required_skills = data.get('jobRequiredSkills', [])
-        job_min_years = data.get('jobMinYearsOfExperience', 0)
-        job_description = data.get('jobDescription', '')
-        
-        # Extract information from resume
-        extracted_skills = extract_skills_from_text(resume_text)
-        resume_years = extract_experience_years(resume_text)
-        
-        # Calculate individual scores
-        skill_match_score = calculate_skill_match_score(
-            list(extracted_skills),
-            job_required_skills
-        )
-        
-        experience_score = calculate_experience_score(
-            resume_years,
-            job_min_years
-        )
-        
-        text_similarity_score = calculate_text_similarity(
-            resume_text,
-            job_description
-        )
-        
-        # Create breakdown
-        breakdown = {
-            'skillMatch': skill_match_score,
-            'experienceMatch': experience_score,
-            'textSimilarity': text_similarity_score
-        }
-        
-        # Calculate overall score
-        overall_score = calculate_overall_score(breakdown)
-        
-        # Create skill match scores dictionary
-        skill_match_scores = {}
-        if job_required_skills:
-            for skill in job_required_skills:
-                skill_lower = skill.lower()
-                if any(skill_lower in s.lower() or s.lower() in skill_lower 
-                       for s in extracted_skills):
-                    skill_match_scores[skill] = 100.0
-                else:
-                    skill_match_scores[skill] = 0.0
-        
-        # Prepare response
-        response = {
-            'overallScore': overall_score,
-            'skillMatchScores': skill_match_scores,
-            'breakdown': breakdown,
-            'extractedSkills': list(extracted_skills)
-        }
-        
-        return jsonify(response), 200
+        return jsonify(score_candidate(data)), 200
         
     except Exception as e:
         return jsonify({
@@ -254,6 +261,45 @@ def predict_score():
         }), 500
 
 
+@app.route('/predict-score-batch', methods=['POST'])
+def predict_score_batch():
+    """
+    Score several candidate-job pairs in one call
+
+    Request body:
+    {
+        "requests": [ <same shape as /predict-score>, ... ]
+    }
+
+    Results come back in request order. An item that cannot be scored gets
+    {"error": "..."} in its slot instead of failing the whole batch.
+    """
+    try:
+        data = request.get_json()
+
+        if not data or not isinstance(data.get('requests'), list):
+            return jsonify({'error': 'Request body with a requests list is required'}), 400
+
+        items = data['requests']
+        if len(items) > MAX_BATCH_SIZE:
+            return jsonify({'error': f'At most {MAX_BATCH_SIZE} requests per batch'}), 400
+
+        results = []
+        for item in items:
+            try:
+                results.append(score_candidate(item or {}))
+            except Exception as e:
+                results.append({'error': str(e)})
+
+        return jsonify({'results': results}), 200
+
+    except Exception as e:
+        return jsonify({
+            'error': 'Internal server error',
+            'message': str(e)
+        }), 500
+
+
 @app.route('/extract-skills', methods=['POST'])
 def extract_skills():
     """
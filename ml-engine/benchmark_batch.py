@@ -0,0 +1,49 @@
+"""
+Compare scoring throughput of one /predict-score call per pair against
+/predict-score-batch on a running ML engine.
+"""
+import argparse
+import time
+
+import requests
+
+SAMPLE = {
+    'resumeText': 'Jane Doe\nBackend Engineer\n6 years of experience\nSkills: Java, Spring Boot, MongoDB, Docker',
+    'jobRequiredSkills': ['Java', 'Spring Boot', 'AWS'],
+    'jobMinYearsOfExperience': 5,
+    'jobDescription': 'Backend engineer building Java services on Spring Boot and MongoDB',
+}
+
+
+def run_single(session, url, total):
+    start = time.perf_counter()
+    for _ in range(total):
+        session.post(f'{url}/predict-score', json=SAMPLE).raise_for_status()
+    return time.perf_counter() - start
+
+
+def run_batch(session, url, total, batch_size):
+    start = time.perf_counter()
+    sent = 0
+    while sent < total:
+        size = min(batch_size, total - sent)
+        response = session.post(f'{url}/predict-score-batch', json={'requests': [SAMPLE] * size})
+        response.raise_for_status()
+        sent += len(response.json()['results'])
+    return time.perf_counter() - start
+
+
+if __name__ == '__main__':
+    parser = argparse.ArgumentParser(description=__doc__)
+    parser.add_argument('--url', default='http://localhost:5000')
+    parser.add_argument('--total', type=int, default=2000)
+    parser.add_argument('--batch-size', type=int, default=32)
+    args = parser.parse_args()
+
+    with requests.Session() as session:
+        single = run_single(session, args.url, args.total)
+        batch = run_batch(session, args.url, args.total, args.batch_size)
+
+    print(f'single: {args.total / single:8.0f} scores/s')
+    print(f'batch:  {args.total / batch:8.0f} scores/s (batches of {args.batch_size})')
+    print(f'speedup: {single / batch:.1f}x')